@@ -92,7 +92,12 @@ export default function BoardListSection({
           <li key={item.id}>
             <Link className="board-item" to={`/board/${item.id}`}>
               <span className="board-item-id">#{item.id}</span>
-              <span className="board-item-title">{item.title}</span>
+              <span className="board-item-title">
+                {item.title}
+                {item.commentCount > 0 && (
+                  <span className="board-item-comments"> [{item.commentCount}]</span>
+                )}
+              </span>
               <span className="board-item-date">
                 {new Date(item.createdAt).toLocaleString("ko-KR", {
                   dateStyle: "medium",
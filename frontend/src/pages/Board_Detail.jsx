@@ -1,10 +1,18 @@
-import { useEffect, useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import { Link, useParams } from "react-router-dom";
 import { useAuth } from "../context/AuthContext";
 import "../css/board_detail.css";
 
 const API_BASE_URL = import.meta.env.VITE_API_URL ?? "/api";
 const buildApiUrl = (path) => (path.startsWith("http") ? path : `${API_BASE_URL}${path}`);
+const COMMENT_PAGE_SIZE = 50;
+
+// 이미 가진 댓글은 빼고 뒤에 이어 붙임 (실시간 이벤트와 페이지 조회가 겹칠 수 있음)
+const appendUnique = (prev, items) => {
+  const known = new Set(prev.map((comment) => comment.id));
+  const added = items.filter((comment) => !known.has(comment.id));
+  return added.length > 0 ? [...prev, ...added] : prev;
+};
 
 export default function BoardDetailPage() {
   const { id } = useParams();
@@ -15,6 +23,10 @@ export default function BoardDetailPage() {
   const [comments, setComments] = useState([]);
   const [loadingComments, setLoadingComments] = useState(true);
   const [commentsError, setCommentsError] = useState("");
+  // 다음 댓글 페이지 커서 (마지막으로 받은 댓글 ID, 더 없으면 null)
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingMore, setLoadingMore] = useState(false);
+  const nextCursorRef = useRef(null);
 
   const [commentContent, setCommentContent] = useState("");
   const [formError, setFormError] = useState("");
@@ -22,51 +34,97 @@ export default function BoardDetailPage() {
 
   const { fetchWithAuth, isAuthenticated, status } = useAuth();
 
+  // 게시글과 첫 댓글 페이지를 한 번의 요청으로 불러옴
   useEffect(() => {
     const controller = new AbortController();
     setBoardError("");
+    setCommentsError("");
     setLoadingBoard(true);
+    setLoadingComments(true);
+    setNextCursor(null);
 
-    fetchWithAuth(buildApiUrl(`/boards/${id}`), { signal: controller.signal })
+    fetchWithAuth(buildApiUrl(`/boards/${id}?include=comments`), { signal: controller.signal })
       .then((res) => {
         if (!res.ok) {
           throw new Error("게시글을 찾을 수 없습니다.");
         }
         return res.json();
       })
-      .then((data) => setBoard(data))
+      .then((data) => {
+        setBoard(data.board);
+        setComments(data.comments);
+        if (data.hasMoreComments && data.comments.length > 0) {
+          setNextCursor(data.comments[data.comments.length - 1].id);
+        }
+      })
       .catch((err) => {
         if (err.name !== "AbortError") {
           setBoardError(err.message);
         }
       })
-      .finally(() => setLoadingBoard(false));
+      .finally(() => {
+        setLoadingBoard(false);
+        setLoadingComments(false);
+      });
 
     return () => controller.abort();
   }, [id, fetchWithAuth]);
 
   useEffect(() => {
-    const controller = new AbortController();
-    setCommentsError("");
-    setLoadingComments(true);
+    nextCursorRef.current = nextCursor;
+  }, [nextCursor]);
 
-    fetchWithAuth(buildApiUrl(`/comments?postId=${id}`), { signal: controller.signal })
-      .then((res) => {
-        if (!res.ok) {
-          throw new Error("댓글을 불러오는 중 오류가 발생했습니다.");
-        }
-        return res.json();
-      })
-      .then((data) => setComments(data))
-      .catch((err) => {
-        if (err.name !== "AbortError") {
-          setCommentsError(err.message);
-        }
-      })
-      .finally(() => setLoadingComments(false));
+  // 다른 사용자가 작성/수정/삭제한 댓글을 실시간으로 반영 (SSE)
+  useEffect(() => {
+    if (typeof EventSource === "undefined") return undefined;
+    const source = new EventSource(buildApiUrl(`/comments/stream?postId=${id}`));
+
+    source.addEventListener("created", (event) => {
+      const { comment } = JSON.parse(event.data);
+      // 아직 뒤에 불러오지 않은 댓글이 남아 있으면 "댓글 더 보기"에서 순서대로 받음
+      if (comment && nextCursorRef.current === null) {
+        setComments((prev) => appendUnique(prev, [comment]));
+      }
+    });
+    source.addEventListener("updated", (event) => {
+      const { comment } = JSON.parse(event.data);
+      if (comment) {
+        setComments((prev) => prev.map((item) => (item.id === comment.id ? comment : item)));
+      }
+    });
+    source.addEventListener("deleted", (event) => {
+      const { commentId } = JSON.parse(event.data);
+      setComments((prev) => prev.filter((item) => item.id !== commentId));
+    });
 
-    return () => controller.abort();
-  }, [id, fetchWithAuth]);
+    return () => source.close();
+  }, [id]);
+
+  // afterId 뒤의 댓글 한 페이지를 조회
+  const fetchCommentPage = async (afterId) => {
+    const res = await fetchWithAuth(
+      buildApiUrl(`/comments?postId=${id}&after=${afterId}&limit=${COMMENT_PAGE_SIZE}`)
+    );
+    if (!res.ok) {
+      throw new Error("댓글을 불러오는 중 오류가 발생했습니다.");
+    }
+    return res.json();
+  };
+
+  const handleLoadMore = async () => {
+    if (nextCursor === null) return;
+    setCommentsError("");
+    setLoadingMore(true);
+    try {
+      const page = await fetchCommentPage(nextCursor);
+      setComments((prev) => appendUnique(prev, page.items));
+      setNextCursor(page.nextCursor);
+    } catch (err) {
+      setCommentsError(err.message);
+    } finally {
+      setLoadingMore(false);
+    }
+  };
 
   const handleSubmit = async (event) => {
     event.preventDefault();
@@ -93,13 +151,14 @@ export default function BoardDetailPage() {
       }
 
       setCommentContent("");
-      // 댓글 목록을 갱신 (인증 헤더 포함)
-      const refresh = await fetchWithAuth(buildApiUrl(`/comments?postId=${id}`));
-      if (!refresh.ok) {
-        throw new Error("댓글을 다시 불러오는 데 실패했습니다.");
+      // 모든 댓글을 이미 받은 상태라면 마지막 댓글 뒤로 새로 달린 댓글만 이어서 받음
+      // (아직 뒤에 남은 댓글이 있으면 "댓글 더 보기"로 불러올 때 함께 보임)
+      if (nextCursor === null) {
+        const lastId = comments.length > 0 ? comments[comments.length - 1].id : 0;
+        const page = await fetchCommentPage(lastId);
+        setComments((prev) => appendUnique(prev, page.items));
+        setNextCursor(page.nextCursor);
       }
-      const refreshed = await refresh.json();
-      setComments(refreshed);
     } catch (err) {
       setFormError(err.message || "오류가 발생했습니다.");
     } finally {
@@ -140,7 +199,7 @@ export default function BoardDetailPage() {
       )}
 
       <section className="comment-section">
-        <h2>댓글 ({comments.length})</h2>
+        <h2>댓글 ({comments.length}{nextCursor !== null ? "+" : ""})</h2>
 
         {isAuthenticated ? (
           <form className="comment-form" onSubmit={handleSubmit}>
@@ -184,6 +243,12 @@ export default function BoardDetailPage() {
             </li>
           ))}
         </ul>
+
+        {nextCursor !== null && (
+          <button className="comment-more" onClick={handleLoadMore} disabled={loadingMore}>
+            {loadingMore ? "불러오는 중…" : "댓글 더 보기"}
+          </button>
+        )}
       </section>
     </main>
   );
@@ -1,10 +1,48 @@
 import { useAuth } from "../context/AuthContext";
-import { useMemo } from "react";
+import { useCallback, useEffect, useMemo, useState } from "react";
 import { Link } from "react-router-dom";
 import "../css/profile.css";
 
+const API_BASE_URL = import.meta.env.VITE_API_URL ?? "/api";
+const buildApiUrl = (path) => (path.startsWith("http") ? path : `${API_BASE_URL}${path}`);
+const MY_COMMENT_PAGE_SIZE = 20;
+
 export default function Profile() {
-  const { isAuthenticated, isLoading } = useAuth();
+  const { isAuthenticated, isLoading, fetchWithAuth } = useAuth();
+
+  const [myComments, setMyComments] = useState([]);
+  const [nextCursor, setNextCursor] = useState(null);
+  const [loadingComments, setLoadingComments] = useState(false);
+  const [commentsError, setCommentsError] = useState("");
+
+  // 내 댓글 한 페이지 조회 (before 가 없으면 최신부터)
+  const loadMyComments = useCallback(
+    async (before) => {
+      setLoadingComments(true);
+      setCommentsError("");
+      try {
+        const query = before ? `before=${before}&limit=${MY_COMMENT_PAGE_SIZE}` : `limit=${MY_COMMENT_PAGE_SIZE}`;
+        const res = await fetchWithAuth(buildApiUrl(`/users/me/comments?${query}`));
+        if (!res.ok) {
+          throw new Error("내 댓글을 불러오지 못했습니다.");
+        }
+        const page = await res.json();
+        setMyComments((prev) => (before ? [...prev, ...page.items] : page.items));
+        setNextCursor(page.nextCursor);
+      } catch (err) {
+        setCommentsError(err.message);
+      } finally {
+        setLoadingComments(false);
+      }
+    },
+    [fetchWithAuth]
+  );
+
+  useEffect(() => {
+    if (isAuthenticated) {
+      loadMyComments(null);
+    }
+  }, [isAuthenticated, loadMyComments]);
 
   const userInfo = useMemo(() => {
     const saved = localStorage.getItem("userInfo");
@@ -55,6 +93,34 @@ export default function Profile() {
           <Link to="/board/login" className="profile-btn">로그인</Link>
         </div>
       )}
+      {isAuthenticated && (
+        <section className="profile-card profile-comments">
+          <h2 className="profile-comments-title">내 댓글</h2>
+          {commentsError && <p className="profile-comments-empty">{commentsError}</p>}
+          {!loadingComments && !commentsError && myComments.length === 0 && (
+            <p className="profile-comments-empty">아직 작성한 댓글이 없습니다.</p>
+          )}
+          <ul className="profile-comments-list">
+            {myComments.map((comment) => (
+              <li key={comment.id}>
+                <Link to={`/board/${comment.postId}`} className="profile-comment-post">
+                  {comment.postTitle}
+                </Link>
+                <p className="profile-comment-body">{comment.content}</p>
+              </li>
+            ))}
+          </ul>
+          {nextCursor !== null && (
+            <button
+              className="profile-btn profile-btn--outline"
+              onClick={() => loadMyComments(nextCursor)}
+              disabled={loadingComments}
+            >
+              {loadingComments ? "불러오는 중…" : "더 보기"}
+            </button>
+          )}
+        </section>
+      )}
       <p style={{marginTop:"20px", color:"#b0b0b0ff"}}>정보 수정 기능은 아직 구현되지 않았습니다.</p>
     </div>
   );
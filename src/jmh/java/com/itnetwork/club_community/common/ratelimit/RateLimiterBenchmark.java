@@ -0,0 +1,55 @@
+package com.itnetwork.club_community.common.ratelimit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 허용되는 요청 한 건당 속도 제한 확인 비용 측정 (한도에 걸리지 않을 만큼 큰 capacity)
+ *
+ * - sameKey: 모든 스레드가 같은 버킷을 사용 (CAS 경합 최대)
+ * - manyKeys: 클라이언트 1만 명에 흩어진 요청
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Threads(4)
+public class RateLimiterBenchmark {
+
+    private static final int CAPACITY = Integer.MAX_VALUE;
+    private static final long PERIOD = TimeUnit.SECONDS.toNanos(1);
+    private static final int CLIENTS = 10_000;
+
+    private RateLimiter limiter;
+    private String[] subjects;
+
+    @Setup
+    public void setUp() {
+        limiter = new RateLimiter();
+        subjects = new String[CLIENTS];
+        for (int i = 0; i < CLIENTS; i++) {
+            subjects[i] = "ip:10.0." + (i / 256) + "." + (i % 256);
+        }
+    }
+
+    @Benchmark
+    public long sameKey() {
+        return limiter.tryAcquire("comment-write", "ip:10.0.0.1", CAPACITY, PERIOD, System.nanoTime());
+    }
+
+    @Benchmark
+    public long manyKeys() {
+        String subject = subjects[ThreadLocalRandom.current().nextInt(CLIENTS)];
+        return limiter.tryAcquire("comment-write", subject, CAPACITY, PERIOD, System.nanoTime());
+    }
+}
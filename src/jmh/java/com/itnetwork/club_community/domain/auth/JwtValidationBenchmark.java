@@ -0,0 +1,82 @@
+package com.itnetwork.club_community.domain.auth;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증된 요청 한 건당 액세스 토큰 검증 비용 측정
+ *
+ * - legacy: 예전 필터 방식 (요청마다 파서를 새로 만들어 IsValidate + GetEmailFromToken 으로 두 번 파싱)
+ * - singleParse: validate() 한 번 (공유 파서로 한 번 파싱)
+ * - cached: VerifiedTokenCache 적중 (SHA-256 다이제스트 + 캐시 조회만)
+ *
+ * 토큰은 벤치마크 키로 직접 만들어 만료를 길게 둡니다. (GenerateToken 의 1분 만료로는 측정 도중 만료되어
+ * 예외 경로를 재게 됨)
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtValidationBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-hmac-sha256-0123456789";
+
+    private Key key;
+    private JwtTokenProvider provider;
+    private VerifiedTokenCache cache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        key = Keys.hmacShaKeyFor(SECRET.getBytes());
+        provider = new JwtTokenProvider(SECRET);
+        // 캐시 항목 수명(max-ttl)도 한 번의 측정보다 길게 둬서 cached 가 끝까지 적중만 재도록 함
+        cache = new VerifiedTokenCache(provider, new SimpleMeterRegistry(), 10_000, Duration.ofHours(1));
+        long now = System.currentTimeMillis();
+        token = Jwts.builder()
+                .setSubject("user@test.com")
+                .claim(JwtPrincipal.UID_CLAIM, 1L)
+                .claim(JwtPrincipal.ROLES_CLAIM, List.of("ROLE_USER"))
+                .setIssuedAt(new Date(now))
+                .setExpiration(new Date(now + TimeUnit.HOURS.toMillis(1)))
+                .signWith(key, SignatureAlgorithm.HS256)
+                .compact();
+
+        // 미리 한 번 검증해서 캐시에 올려둠 (유효하지 않으면 캐시되지 않으므로 바로 실패시킴)
+        if (!cache.validate(token).isValid()) {
+            throw new IllegalStateException("벤치마크 토큰이 유효하지 않습니다.");
+        }
+    }
+
+    @Benchmark
+    public String legacy() {
+        Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+    }
+
+    @Benchmark
+    public String singleParse() {
+        return provider.validate(token).getSubject();
+    }
+
+    @Benchmark
+    public String cached() {
+        return cache.validate(token).getSubject();
+    }
+}
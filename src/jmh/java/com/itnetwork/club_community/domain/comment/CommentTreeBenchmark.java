@@ -0,0 +1,87 @@
+package com.itnetwork.club_community.domain.comment;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PATH 순서로 읽은 댓글 목록의 트리 조립 비용 측정
+ *
+ * - deep: 답글이 한 줄로 최대 깊이까지 이어지는 스레드들
+ * - wide: 최상위 댓글 하나에 답글이 넓게 달린 스레드
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CommentTreeBenchmark {
+
+    @Param({"deep", "wide"})
+    private String shape;
+
+    @Param({"200", "1000"})
+    private int size;
+
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        rows = "deep".equals(shape) ? deepThreads(size) : wideThread(size);
+    }
+
+    @Benchmark
+    public List<CommentResponseDto> build() {
+        // 조립 과정에서 children 이 채워지므로 매번 새 DTO 로 측정 (DB 조회 결과를 받은 직후와 같은 상태)
+        List<CommentResponseDto> preorder = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            preorder.add(new CommentResponseDto((Long) row[0], "내용", null, null, 1L, "user", "작성자",
+                    (Long) row[1], (Integer) row[2], (String) row[3]));
+        }
+        return CommentTreeBuilder.build(preorder);
+    }
+
+    // 최대 깊이까지 이어진 답글 사슬을 size 건이 될 때까지 반복
+    private static List<Object[]> deepThreads(int size) {
+        List<Object[]> result = new ArrayList<>(size);
+        long id = 1;
+        while (result.size() < size) {
+            String path = "";
+            Long parentId = null;
+            for (int depth = 0; depth <= Comment.MAX_DEPTH && result.size() < size; depth++, id++) {
+                path += Comment.pathSegment(id);
+                result.add(new Object[]{id, parentId, depth, path});
+                parentId = id;
+            }
+        }
+        return result;
+    }
+
+    // 최상위 댓글 하나에 답글 size - 1 건, 답글마다 답글의 답글 하나씩 (전위 순서)
+    private static List<Object[]> wideThread(int size) {
+        List<Object[]> result = new ArrayList<>(size);
+        String rootPath = Comment.pathSegment(1L);
+        result.add(new Object[]{1L, null, 0, rootPath});
+        long id = 2;
+        while (result.size() < size) {
+            long replyId = id++;
+            String replyPath = rootPath + Comment.pathSegment(replyId);
+            result.add(new Object[]{replyId, 1L, 1, replyPath});
+            if (result.size() < size) {
+                long nestedId = id++;
+                result.add(new Object[]{nestedId, replyId, 2, replyPath + Comment.pathSegment(nestedId)});
+            }
+        }
+        return result;
+    }
+}
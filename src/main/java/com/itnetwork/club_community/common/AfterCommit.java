@@ -0,0 +1,34 @@
+package com.itnetwork.club_community.common;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행해야 하는 작업을 등록하는 유틸리티
+ * 메모리 카운터나 캐시처럼 DB와 맞춰야 하는 상태는 롤백될 수 있는 시점이 아니라
+ * 커밋이 끝난 뒤에 갱신해야 합니다.
+ */
+public final class AfterCommit {
+
+    private AfterCommit() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업을 실행합니다.
+     * 진행 중인 트랜잭션이 없으면 바로 실행합니다.
+     *
+     * @param action 커밋 후 실행할 작업
+     */
+    public static void run(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,128 @@
+package com.itnetwork.club_community.common.ratelimit;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 경로별 요청 속도 제한 필터
+ *
+ * 로그인/회원가입, 게시글 작성, 댓글 작성처럼 BCrypt CPU 나 DB 쓰기를 쓰는 요청에만 적용되며,
+ * 설정(rate-limit.routes)에 맞는 요청만 IP 단위, 로그인 사용자 단위 토큰 버킷을 확인합니다.
+ * 한도를 넘으면 컨트롤러까지 가지 않고 429 와 Retry-After(초)를 바로 돌려줍니다.
+ *
+ * JwtAuthFilter 다음에 실행되도록 SecurityConfig 에서 등록하므로 로그인 사용자를 알 수 있습니다.
+ * 클라이언트 IP 는 request.getRemoteAddr() 이며, 프록시 뒤에서는 server.forward-headers-strategy=native 로
+ * 신뢰하는 프록시의 X-Forwarded-For 값이 반영됩니다.
+ */
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final AntPathMatcher PATHS = new AntPathMatcher();
+
+    private final RateLimitProperties properties;
+    private final RateLimiter limiter = new RateLimiter();
+    private final MeterRegistry meterRegistry;
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+        Gauge.builder("ratelimit.buckets", limiter, RateLimiter::size)
+                .description("메모리에 있는 토큰 버킷 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+
+        if (properties.isEnabled()) {
+            RateLimitProperties.Route route = findRoute(request);
+            if (route != null && !acquire(route, request, response)) {
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    // 요청에 맞는 첫 번째 경로 정책 (없으면 null → 제한 없음)
+    private RateLimitProperties.Route findRoute(HttpServletRequest request) {
+        String method = request.getMethod();
+        String path = request.getRequestURI();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            if ((route.getMethod() == null || route.getMethod().equalsIgnoreCase(method))
+                    && PATHS.match(route.getPath(), path)) {
+                return route;
+            }
+        }
+        return null;
+    }
+
+    // IP → 로그인 사용자 순으로 토큰을 쓰고, 하나라도 없으면 429 응답 후 false
+    private boolean acquire(RateLimitProperties.Route route, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        long now = System.nanoTime();
+
+        RateLimitProperties.Limit perIp = route.getPerIp();
+        if (perIp != null) {
+            long waitNanos = limiter.tryAcquire(route.getName(), "ip:" + request.getRemoteAddr(),
+                    perIp.getCapacity(), perIp.getPeriod().toNanos(), now);
+            if (waitNanos > 0) {
+                reject(response, route, "ip", waitNanos);
+                return false;
+            }
+        }
+
+        RateLimitProperties.Limit perUser = route.getPerUser();
+        String user = perUser == null ? null : currentUser();
+        if (user != null) {
+            long waitNanos = limiter.tryAcquire(route.getName(), "user:" + user,
+                    perUser.getCapacity(), perUser.getPeriod().toNanos(), now);
+            if (waitNanos > 0) {
+                reject(response, route, "user", waitNanos);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // JwtAuthFilter 가 인증한 사용자 이메일 (비로그인 요청이면 null)
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+
+    private void reject(HttpServletResponse response, RateLimitProperties.Route route, String scope, long waitNanos)
+            throws IOException {
+        meterRegistry.counter("ratelimit.rejected", "route", route.getName(), "scope", scope).increment();
+        long retryAfterSeconds = Math.max(1L, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader("Retry-After", Long.toString(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write("{\"message\":\"요청이 너무 많습니다. " + retryAfterSeconds + "초 후에 다시 시도해주세요.\"}");
+    }
+
+    // 다시 가득 찬(한동안 요청이 없던) 버킷 정리
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval:1m}")
+    public void evictIdleBuckets() {
+        int remaining = limiter.evictIdle(System.nanoTime());
+        log.debug("요청 속도 제한 버킷 정리 완료 (남은 버킷: {})", remaining);
+    }
+}
@@ -0,0 +1,54 @@
+package com.itnetwork.club_community.common.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 요청 속도 제한 설정 (application.properties 의 rate-limit.*)
+ *
+ * 경로별로 IP 단위(per-ip)와 로그인 사용자 단위(per-user) 한도를 따로 지정할 수 있습니다.
+ * 한도는 "period 동안 capacity 건"이며, 한 번에 capacity 건까지 몰아서 보낼 수 있습니다.
+ *
+ * 예) rate-limit.routes[0].name=login
+ *     rate-limit.routes[0].method=POST
+ *     rate-limit.routes[0].path=/api/auth/login
+ *     rate-limit.routes[0].per-ip.capacity=10
+ *     rate-limit.routes[0].per-ip.period=1m
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    // false 면 필터가 아무것도 검사하지 않음
+    private boolean enabled = true;
+
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+
+        private String name;   // 메트릭/버킷 구분용 이름
+        private String method; // HTTP 메서드 (비우면 모든 메서드)
+        private String path;   // Ant 패턴 (예: /api/boards/**)
+
+        private Limit perIp;   // IP 단위 한도 (없으면 검사하지 않음)
+        private Limit perUser; // 로그인 사용자(이메일) 단위 한도 (없으면 검사하지 않음)
+    }
+
+    @Getter
+    @Setter
+    public static class Limit {
+
+        private int capacity;   // period 동안 허용하는 요청 수 (= 한 번에 몰아서 보낼 수 있는 최대 수)
+        private Duration period;
+    }
+}
@@ -0,0 +1,85 @@
+package com.itnetwork.club_community.common.ratelimit;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키(경로 + IP 또는 사용자)별 토큰 버킷 모음
+ *
+ * 버킷 하나는 "버킷이 다시 가득 차는 시각" 하나(AtomicLong)로 표현합니다. (GCRA 방식의 토큰 버킷)
+ * 요청 하나는 토큰 하나(= period / capacity 만큼의 시간)를 쓰고, 다 차는 시각이 현재보다 period 이상
+ * 뒤로 밀리면 토큰이 없는 것이므로 거절합니다. 시간이 지나면 따로 채우는 작업 없이 자연히 다시 채워집니다.
+ *
+ * - 락 없이 CAS 한 번으로 확인과 차감을 함께 처리합니다. (경합 시에만 재시도)
+ * - 다 차는 시각이 지난 버킷은 가득 찬 새 버킷과 같으므로 evictIdle 로 지워도 동작이 바뀌지 않습니다.
+ */
+public class RateLimiter {
+
+    private final ConcurrentMap<BucketKey, Bucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 토큰 하나를 사용합니다.
+     *
+     * @param route    경로 정책 이름
+     * @param subject  IP 또는 사용자 식별자 (정책별로 구분되도록 접두사 포함)
+     * @param capacity period 동안 허용하는 요청 수
+     * @param periodNanos 한도 기간 (나노초)
+     * @param nowNanos 현재 시각 (System.nanoTime)
+     * @return 허용이면 0, 거절이면 다시 시도할 수 있을 때까지 남은 시간 (나노초)
+     */
+    public long tryAcquire(String route, String subject, int capacity, long periodNanos, long nowNanos) {
+        BucketKey key = new BucketKey(route, subject);
+        Bucket bucket = buckets.get(key);
+        if (bucket == null) {
+            bucket = buckets.computeIfAbsent(key, k -> new Bucket(nowNanos));
+        }
+        long interval = Math.max(periodNanos / Math.max(capacity, 1), 1L);
+        return bucket.tryAcquire(interval, periodNanos, nowNanos);
+    }
+
+    /**
+     * 다시 가득 찬 버킷을 지웁니다. (주기적으로 호출)
+     *
+     * @return 남은 버킷 수
+     */
+    public int evictIdle(long nowNanos) {
+        buckets.values().removeIf(bucket -> bucket.isFull(nowNanos));
+        return buckets.size();
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    private record BucketKey(String route, String subject) {
+    }
+
+    /**
+     * 토큰 버킷 하나: 값은 버킷이 다시 가득 차는 시각 (System.nanoTime 기준)
+     */
+    private static final class Bucket extends AtomicLong {
+
+        Bucket(long nowNanos) {
+            super(nowNanos);
+        }
+
+        long tryAcquire(long interval, long period, long now) {
+            while (true) {
+                long fullAt = get();
+                long next = Math.max(fullAt, now) + interval;
+                long waitNanos = next - now - period;
+                if (waitNanos > 0) {
+                    return waitNanos; // 남은 토큰 없음 (상태는 바꾸지 않음)
+                }
+                if (compareAndSet(fullAt, next)) {
+                    return 0L;
+                }
+            }
+        }
+
+        boolean isFull(long now) {
+            return get() - now <= 0;
+        }
+    }
+}
@@ -1,15 +1,19 @@
 package com.itnetwork.club_community.config;
 
+import com.itnetwork.club_community.common.ratelimit.RateLimitFilter;
+import com.itnetwork.club_community.common.ratelimit.RateLimitProperties;
 import com.itnetwork.club_community.domain.auth.JwtAuthFilter;
-import com.itnetwork.club_community.domain.auth.JwtTokenProvider;
-import com.itnetwork.club_community.domain.auth.RefreshTokenProvider;
+import com.itnetwork.club_community.domain.auth.TokenRefreshService;
+import com.itnetwork.club_community.domain.auth.VerifiedTokenCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -24,40 +28,52 @@ import java.util.List;
 @EnableWebSecurity
 public class SecurityConfig {
 
+    // cost 를 올리면 기존 비밀번호는 다음 로그인 때 PasswordHasher 가 새 cost 로 다시 해시합니다
     @Bean
-    public BCryptPasswordEncoder bCryptPasswordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BCryptPasswordEncoder bCryptPasswordEncoder(@Value("${password.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
     @Bean
     public JwtAuthFilter jwtAuthenticationFilter(
-            JwtTokenProvider jwtTokenProvider,
-            RefreshTokenProvider refreshTokenProvider,
-            UserDetailsService userDetailsService) {
-        return new JwtAuthFilter(jwtTokenProvider, refreshTokenProvider, userDetailsService);
+            VerifiedTokenCache verifiedTokenCache,
+            TokenRefreshService tokenRefreshService) {
+        return new JwtAuthFilter(verifiedTokenCache, tokenRefreshService);
+    }
+
+    @Bean
+    public RateLimitFilter rateLimitFilter(RateLimitProperties rateLimitProperties, MeterRegistry meterRegistry) {
+        return new RateLimitFilter(rateLimitProperties, meterRegistry);
     }
 
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http,
-                                           JwtAuthFilter jwtAuthenticationFilter) throws Exception {
+                                           JwtAuthFilter jwtAuthenticationFilter,
+                                           RateLimitFilter rateLimitFilter) throws Exception {
         return http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource())) // 🔥 CORS 활성화
                 .csrf(csrf -> csrf.disable())
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
+                        // 스트리밍 응답이 끝난 뒤의 ASYNC 디스패치는 이미 인가된 요청이므로 통과
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 		        .requestMatchers(HttpMethod.POST, "/api/auth/**").permitAll()
                         .requestMatchers("/", "/api/auth/**", "/api/health", "/auth/**").permitAll()
 			.requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
+                        .requestMatchers("/api/admin/**").hasRole("ADMIN") // GET 허용 규칙보다 먼저 검사 (전체 내보내기는 관리자만, member_tbl.ROLE)
+                        .requestMatchers("/api/users/me/**").authenticated()
                         .requestMatchers(HttpMethod.GET, "/api/**").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/comments/**").authenticated()
                         .requestMatchers(HttpMethod.PATCH, "/api/comments/**").authenticated()
                         .requestMatchers(HttpMethod.DELETE, "/api/comments/**").authenticated()
+                        .requestMatchers(HttpMethod.POST, "/api/boards/bulk").hasRole("ADMIN") // 이관용 일괄 등록은 관리자만 (member_tbl.ROLE)
                         .requestMatchers(HttpMethod.POST, "/api/boards/**").authenticated()
                         .requestMatchers("/auth/test").authenticated()
                         .requestMatchers("/admin").hasRole("ADMIN")
                         .requestMatchers("/my/**").hasAnyRole("ADMIN", "USER")
                         .anyRequest().authenticated())
                 .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                .addFilterAfter(rateLimitFilter, JwtAuthFilter.class) // 로그인 사용자를 안 뒤에 속도 제한
                 .build();
     }
 
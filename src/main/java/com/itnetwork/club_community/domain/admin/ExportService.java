@@ -0,0 +1,141 @@
+package com.itnetwork.club_community.domain.admin;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+
+/**
+ * 전체 게시글과 댓글을 NDJSON(한 줄에 게시글 하나, 댓글은 comments 배열로 포함)으로 내보내는 서비스
+ * 답글은 parentId / depth 로 스레드 구조를 유지합니다. (comments 배열은 댓글 ID 순)
+ *
+ * 게시글-댓글을 게시글 ID, 댓글 ID 순으로 조인한 결과를 JDBC fetch size 로 조금씩 받아오면서(전진 전용 커서)
+ * 바로 JSON 으로 써내려가므로, 테이블 크기와 관계없이 메모리에는 현재 행과 출력 버퍼만 남습니다.
+ */
+@Service
+public class ExportService {
+
+    private static final String EXPORT_SQL =
+            "SELECT b.id, b.title, b.content, b.created_at, b.views,"
+            + " c.ID AS comment_id, c.CONTENT AS comment_content, c.REG_DATE, c.UPD_DATE, m.USER_NM,"
+            + " c.PARENT_ID, c.DEPTH"
+            + " FROM board b"
+            + " LEFT JOIN comment_tbl c ON c.POST_ID = b.id"
+            + " LEFT JOIN member_tbl m ON m.ID = c.USER_ID"
+            + " ORDER BY b.id, c.ID";
+
+    private static final int FLUSH_EVERY_BOARDS = 100;
+
+    private final JdbcTemplate streamingJdbcTemplate;
+    private final JsonFactory jsonFactory;
+
+    public ExportService(DataSource dataSource, ObjectMapper objectMapper,
+                         @Value("${export.fetch-size:500}") int fetchSize) {
+        // 내보내기 전용 JdbcTemplate: MariaDB 드라이버는 fetch size 가 있으면 결과를 나눠서 스트리밍합니다.
+        this.streamingJdbcTemplate = new JdbcTemplate(dataSource);
+        this.streamingJdbcTemplate.setFetchSize(fetchSize);
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public void writeNdjson(OutputStream out) throws IOException {
+        try (JsonGenerator json = jsonFactory.createGenerator(out)) {
+            json.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET); // 스트림은 호출한 쪽에서 닫음
+            ExportWriter writer = new ExportWriter(json);
+            try {
+                streamingJdbcTemplate.query(EXPORT_SQL, writer);
+            } catch (UncheckedIOException e) {
+                throw e.getCause(); // 클라이언트 연결 끊김 등
+            }
+            writer.finish();
+        }
+    }
+
+    // 조인 결과를 한 행씩 받아서 게시글이 바뀔 때마다 이전 게시글 줄을 닫습니다.
+    private static final class ExportWriter implements RowCallbackHandler {
+
+        private final JsonGenerator json;
+        private long currentBoardId = -1L;
+        private int written;
+
+        ExportWriter(JsonGenerator json) {
+            this.json = json;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            try {
+                long boardId = rs.getLong("id");
+                if (boardId != currentBoardId) {
+                    closeBoard();
+                    openBoard(rs, boardId);
+                }
+                long commentId = rs.getLong("comment_id");
+                if (!rs.wasNull()) {
+                    json.writeStartObject();
+                    json.writeNumberField("id", commentId);
+                    long parentId = rs.getLong("PARENT_ID");
+                    if (rs.wasNull()) {
+                        json.writeNullField("parentId"); // 최상위 댓글
+                    } else {
+                        json.writeNumberField("parentId", parentId);
+                    }
+                    json.writeNumberField("depth", rs.getInt("DEPTH"));
+                    json.writeStringField("author", rs.getString("USER_NM"));
+                    json.writeStringField("content", rs.getString("comment_content"));
+                    writeDate("createdAt", rs.getObject("REG_DATE", LocalDateTime.class));
+                    writeDate("updatedAt", rs.getObject("UPD_DATE", LocalDateTime.class));
+                    json.writeEndObject();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        void finish() throws IOException {
+            closeBoard();
+            json.flush();
+        }
+
+        private void openBoard(ResultSet rs, long boardId) throws SQLException, IOException {
+            currentBoardId = boardId;
+            json.writeStartObject();
+            json.writeNumberField("id", boardId);
+            json.writeStringField("title", rs.getString("title"));
+            json.writeStringField("content", rs.getString("content"));
+            writeDate("createdAt", rs.getObject("created_at", LocalDateTime.class));
+            json.writeNumberField("views", rs.getLong("views"));
+            json.writeArrayFieldStart("comments");
+        }
+
+        private void closeBoard() throws IOException {
+            if (currentBoardId < 0) {
+                return;
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+            json.writeRaw('\n');
+            if (++written % FLUSH_EVERY_BOARDS == 0) {
+                json.flush(); // 버퍼가 커지지 않도록 주기적으로 내보냄
+            }
+        }
+
+        private void writeDate(String field, LocalDateTime value) throws IOException {
+            if (value == null) {
+                json.writeNullField(field);
+            } else {
+                json.writeStringField(field, value.toString());
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.itnetwork.club_community.domain.user.AddUserRequestDto;
 import com.itnetwork.club_community.domain.user.User;
 import com.itnetwork.club_community.domain.user.UserService;
 import com.itnetwork.club_community.domain.user.UserInfoDto;
+import com.itnetwork.club_community.domain.user.UserSnapshot;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -11,7 +12,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -36,12 +36,14 @@ import java.util.Optional;
 public class AuthController {
     // 사용자 정보를 관리하는 서비스
     private final UserService userService;
-    // 비밀번호를 암호화하고 검증하는 인코더
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    // 비밀번호를 검증하는 해시 컴포넌트 (전용 스레드 풀에서 BCrypt 실행)
+    private final PasswordHasher passwordHasher;
     // JWT 액세스 토큰을 생성하는 Provider
     private final JwtTokenProvider jwtTokenProvider;
     // 리프레시 토큰을 생성하는 Provider
     private final RefreshTokenProvider refreshTokenProvider;
+    // 리프레시 토큰으로 액세스 토큰을 재발급하는 서비스 (동시 요청 합치기)
+    private final TokenRefreshService tokenRefreshService;
 
 
     /**
@@ -75,23 +77,23 @@ public class AuthController {
         User user = userService.findByEmail(email)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        // 입력한 비밀번호와 저장된 암호화된 비밀번호를 비교합니다
-        if (!bCryptPasswordEncoder.matches(password, user.getUser_pw())) {
+        // 입력한 비밀번호와 저장된 암호화된 비밀번호를 비교합니다 (해시 풀이 가득 차면 429)
+        if (!passwordHasher.matches(password, user.getUser_pw())) {
             throw new IllegalArgumentException("비밀번호가 일치하지 않습니다.");
         }
 
+        // 설정한 cost 보다 낮은 cost 로 저장된 비밀번호면 백그라운드에서 다시 해시해서 저장합니다
+        Long uid = user.getUid();
+        String userEmail = user.getEmail();
+        passwordHasher.rehashIfNeeded(password, user.getUser_pw(),
+                encoded -> userService.updatePassword(uid, userEmail, encoded));
+
         // 인증이 성공했으므로 액세스 토큰과 리프레시 토큰을 생성합니다
-        String accessToken = jwtTokenProvider.GenerateToken(user.getEmail());
+        UserSnapshot snapshot = UserSnapshot.of(user);
+        String accessToken = jwtTokenProvider.GenerateToken(snapshot.email(), snapshot.uid(), snapshot.roles());
         String refreshToken = refreshTokenProvider.GenerateRefreshToken(user.getEmail());
 
-        ResponseCookie refreshCookie = ResponseCookie.from("refreshToken", refreshToken)
-                .httpOnly(true)
-                .secure(false)  // 개발 환경에서 HTTPS가 아니므로 secure는 false, 운영환경에서는 true로 변경
-                .path("/api/auth")
-                .maxAge(7 * 24 * 60 * 60)
-                .sameSite("Lax")
-                .build();
-        response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie.toString());
+        response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie(refreshToken).toString());
 
         // UserInfoDto 생성
         UserInfoDto userInfo = UserInfoDto.createUserInfoDto(user);
@@ -106,52 +108,34 @@ public class AuthController {
     /**
      * 리프레시 토큰으로 새로운 액세스 토큰을 발급하는 API
      * 액세스 토큰이 만료되었을 때 쿠키에 저장된 리프레시 토큰을 사용해서 새 액세스 토큰을 받을 수 있습니다.
+     * 리프레시 토큰도 새로 발급해서 쿠키를 교체하고, 사용한 리프레시 토큰은 폐기합니다. (refresh-token.rotation.enabled)
      *
      * @param request 리프레시 토큰 쿠키를 포함한 요청
      * @return 새로운 액세스 토큰
      */
     @PostMapping("/refresh")
-    public ResponseEntity<?> refresh(HttpServletRequest request) {
-        String refreshToken = null;
-        if (request.getCookies() != null) {
-            for (Cookie cookie : request.getCookies()) {
-                if ("refreshToken".equals(cookie.getName())) {
-                    refreshToken = cookie.getValue();
-                    break;
-                }
-            }
+    public ResponseEntity<?> refresh(HttpServletRequest request, HttpServletResponse response) {
+        String refreshToken = getRefreshTokenCookie(request);
+
+        // 리프레시 토큰 검증 → 폐기 여부 확인 → 사용자 확인 → 새 액세스 토큰 (+ 새 리프레시 토큰) 생성
+        // (토큰이 없거나 유효하지 않거나 폐기되었으면 예외 발생, 같은 토큰의 동시 요청은 한 번만 발급해서 결과를 공유)
+        TokenRefreshService.RefreshedToken refreshed = tokenRefreshService.refreshAndRotate(refreshToken);
+        if (refreshed.refreshToken() != null) {
+            response.addHeader(HttpHeaders.SET_COOKIE, refreshCookie(refreshed.refreshToken()).toString());
         }
 
-        // 리프레시 토큰이 없으면 예외 발생
-        if (refreshToken == null || refreshToken.isEmpty()) {
-            throw new IllegalArgumentException("리프레시 토큰이 필요합니다.");
-        }
-
-        // 리프레시 토큰이 유효한지 검증합니다
-        if (!refreshTokenProvider.IsValidate(refreshToken)) {
-            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
-        }
-
-        // 리프레시 토큰에서 사용자 이메일을 추출합니다
-        String email = refreshTokenProvider.GetEmailFromToken(refreshToken);
-
-        // 사용자가 존재하는지 확인합니다
-        userService.findByEmail(email)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        // 새로운 액세스 토큰을 생성합니다
-        String newAccessToken = jwtTokenProvider.GenerateToken(email);
-
         // 새로운 액세스 토큰을 응답으로 반환합니다
-        return ResponseEntity.ok(Map.of("accessToken", newAccessToken));
+        return ResponseEntity.ok(Map.of("accessToken", refreshed.accessToken()));
     }
 
     /**
      * 로그아웃 처리 API
-     * 클라이언트에 저장된 refreshToken 쿠키를 바로 제거합니다.
+     * 쿠키의 리프레시 토큰을 폐기해서 더 이상 재발급에 쓸 수 없게 하고, refreshToken 쿠키를 바로 제거합니다.
      */
     @PostMapping("/logout")
-    public ResponseEntity<?> logout(HttpServletResponse response) {
+    public ResponseEntity<?> logout(HttpServletRequest request, HttpServletResponse response) {
+        tokenRefreshService.revoke(getRefreshTokenCookie(request));
+
         ResponseCookie deleteCookie = ResponseCookie.from("refreshToken", "")
                 .httpOnly(true)
                 .secure(false)
@@ -163,6 +147,29 @@ public class AuthController {
         return ResponseEntity.ok(Map.of("message", "로그아웃 되었습니다."));
     }
 
+    // 요청 쿠키에서 리프레시 토큰을 꺼냅니다 (없으면 null)
+    private static String getRefreshTokenCookie(HttpServletRequest request) {
+        if (request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if ("refreshToken".equals(cookie.getName())) {
+                    return cookie.getValue();
+                }
+            }
+        }
+        return null;
+    }
+
+    // 리프레시 토큰을 담는 HTTP-only 쿠키
+    private static ResponseCookie refreshCookie(String refreshToken) {
+        return ResponseCookie.from("refreshToken", refreshToken)
+                .httpOnly(true)
+                .secure(false)  // 개발 환경에서 HTTPS가 아니므로 secure는 false, 운영환경에서는 true로 변경
+                .path("/api/auth")
+                .maxAge(7 * 24 * 60 * 60)
+                .sameSite("Lax")
+                .build();
+    }
+
     /**
      * 리프레시 토큰 작동 확인용 테스트 API
      * 인증이 필요한 엔드포인트로, accessToken이 만료되었을 때 
@@ -6,9 +6,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import com.itnetwork.club_community.domain.user.UserSnapshot;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -38,24 +37,20 @@ public class JwtAuthFilter extends OncePerRequestFilter {
         return path.startsWith("/auth/") || path.startsWith("/api/auth/");
     }
 
-    // JWT 토큰을 생성하고 검증하는 Provider
-    private final JwtTokenProvider jwtTokenProvider;
-    // 리프레시 토큰을 처리하는 Provider
-    private final RefreshTokenProvider refreshTokenProvider;
-    // 사용자 정보를 로드하는 서비스
-    private final UserDetailsService userDetailsService;
+    // 검증이 끝난 액세스 토큰 캐시 (같은 토큰은 서명 검증을 한 번만)
+    private final VerifiedTokenCache verifiedTokenCache;
+    // 리프레시 토큰으로 액세스 토큰을 재발급하는 서비스
+    private final TokenRefreshService tokenRefreshService;
 
     /**
-     * 생성자: JWT 토큰 Provider, 리프레시 토큰 Provider, 사용자 서비스를 주입받습니다.
+     * 생성자: 액세스 토큰 검증 캐시와 토큰 재발급 서비스를 주입받습니다.
      *
-     * @param jwtTokenProvider JWT 토큰을 처리하는 Provider
-     * @param refreshTokenProvider 리프레시 토큰을 처리하는 Provider
-     * @param userDetailsService 사용자 정보를 가져오는 서비스
+     * @param verifiedTokenCache 액세스 토큰을 검증하는 캐시 (JwtTokenProvider 를 감쌈)
+     * @param tokenRefreshService 리프레시 토큰으로 새 액세스 토큰을 발급하는 서비스
      */
-    public JwtAuthFilter(JwtTokenProvider jwtTokenProvider, RefreshTokenProvider refreshTokenProvider, UserDetailsService userDetailsService) {
-        this.jwtTokenProvider = jwtTokenProvider;
-        this.refreshTokenProvider = refreshTokenProvider;
-        this.userDetailsService = userDetailsService;
+    public JwtAuthFilter(VerifiedTokenCache verifiedTokenCache, TokenRefreshService tokenRefreshService) {
+        this.verifiedTokenCache = verifiedTokenCache;
+        this.tokenRefreshService = tokenRefreshService;
     }
 
     /**
@@ -88,24 +83,23 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             // "bearer " 또는 "Bearer " 부분(7글자)을 제거하고 실제 토큰만 추출합니다
             String token = header.substring(7).trim();
 
-            // 토큰이 유효한지 검증합니다
-            boolean isValid = jwtTokenProvider.IsValidate(token);
+            // 토큰을 한 번만 파싱해서 유효 여부와 이메일을 함께 얻습니다 (이미 검증된 토큰이면 캐시에서)
+            TokenValidation validation = verifiedTokenCache.validate(token);
+            // 인증 정보는 검증된 클레임(uid, roles)만으로 만듭니다 (사용자 DB 조회 없음)
+            JwtPrincipal principal = validation.isValid() ? JwtPrincipal.fromClaims(validation.getClaims()) : null;
+            boolean isValid = principal != null;
             log.info("🔍 [토큰 검증] AccessToken 유효성: {}", isValid ? "유효함" : "만료됨 또는 오류");
 
             if (isValid) {
                 // ✅ 토큰이 유효하면 정상적으로 인증 처리 (리프레시 불필요)
-                String userId = jwtTokenProvider.GetEmailFromToken(token);
-                UserDetails userDetails = userDetailsService.loadUserByUsername(userId);
-
                 UsernamePasswordAuthenticationToken authentication =
-                        new UsernamePasswordAuthenticationToken(userId, null, userDetails.getAuthorities());
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
                 SecurityContextHolder.getContext().setAuthentication(authentication);
                 authenticated = true;
                 log.info("✅ [토큰 유효] AccessToken이 아직 유효합니다. 리프레시 불필요.");
             } else {
                 // ❌ AccessToken이 만료되었거나 유효하지 않음
-                boolean isExpired = jwtTokenProvider.isTokenExpired(token);
-                if (isExpired) {
+                if (validation.isExpired()) {
                     log.error("❌ [만료 확인] AccessToken이 만료되었습니다!");
                     log.error("❌ [인증 실패] 만료된 AccessToken으로는 요청할 수 없습니다!");
                     log.info("📋 [만료된 토큰] {}", token);
@@ -113,7 +107,7 @@ public class JwtAuthFilter extends OncePerRequestFilter {
                     // 만료된 토큰은 무조건 인증 실패 (리프레시는 별도 엔드포인트에서만)
                     authenticated = false;
                 } else {
-                    log.error("❌ [토큰 오류] AccessToken이 유효하지 않습니다 (서명 오류 또는 형식 오류)");
+                    log.error("❌ [토큰 오류] AccessToken이 유효하지 않습니다 (서명 오류, 형식 오류 또는 uid 클레임 없음)");
                     authenticated = false;
                 }
             }
@@ -122,33 +116,29 @@ public class JwtAuthFilter extends OncePerRequestFilter {
             log.info("⚠️ [토큰 없음] Authorization 헤더가 없지만 RefreshToken이 있습니다. 리프레시 시도...");
             log.info("📋 [리프레시 전] AccessToken: 없음 (Authorization 헤더 없음)");
 
-            if (refreshTokenProvider.IsValidate(refreshTokenHeader)) {
-                String email = refreshTokenProvider.GetEmailFromToken(refreshTokenHeader);
-                try {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(email);
-
-                    // 새로운 accessToken을 생성합니다
-                    String newAccessToken = jwtTokenProvider.GenerateToken(email);
-
-                    // ✅ 리프레시 성공 로그 출력
-                    log.info("✅ [리프레시 성공] RefreshToken만으로 새로운 AccessToken이 발급되었습니다!");
-                    log.info("📋 [리프레시 후] 새로운 AccessToken: {}", newAccessToken);
-                    log.info("👤 사용자: {}", email);
-
-                    // 응답 헤더에 새 토큰을 추가합니다
-                    response.setHeader("New-Access-Token", newAccessToken);
-
-                    // 인증 정보를 설정합니다
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(email, null, userDetails.getAuthorities());
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                    authenticated = true;
-                } catch (Exception e) {
-                    // 사용자를 찾을 수 없으면 인증 실패
-                    log.error("❌ [리프레시 실패] 사용자를 찾을 수 없습니다: {}", email);
-                }
-            } else {
-                log.warn("❌ [리프레시 실패] RefreshToken이 유효하지 않거나 만료되었습니다.");
+            try {
+                // 같은 RefreshToken 으로 동시에 들어온 요청은 한 번만 발급하고 같은 토큰을 받습니다
+                TokenRefreshService.RefreshedToken refreshed = tokenRefreshService.refresh(refreshTokenHeader);
+                UserSnapshot user = refreshed.user();
+                String newAccessToken = refreshed.accessToken();
+
+                // ✅ 리프레시 성공 로그 출력
+                log.info("✅ [리프레시 성공] RefreshToken만으로 새로운 AccessToken이 발급되었습니다!");
+                log.info("📋 [리프레시 후] 새로운 AccessToken: {}", newAccessToken);
+                log.info("👤 사용자: {}", user.email());
+
+                // 응답 헤더에 새 토큰을 추가합니다
+                response.setHeader("New-Access-Token", newAccessToken);
+
+                // 인증 정보를 설정합니다
+                JwtPrincipal principal = JwtPrincipal.of(user.uid(), user.email(), user.roles());
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities());
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+                authenticated = true;
+            } catch (IllegalArgumentException e) {
+                // 리프레시 토큰이 유효하지 않거나 사용자를 찾을 수 없으면 인증 실패
+                log.warn("❌ [리프레시 실패] {}", e.getMessage());
             }
         } else {
             // 헤더가 아예 없는 경우
@@ -0,0 +1,85 @@
+package com.itnetwork.club_community.domain.auth;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 액세스 토큰의 클레임만으로 만든 인증 사용자 정보
+ * JwtAuthFilter 가 SecurityContext 에 principal 로 넣어주며, 컨트롤러에서는
+ * "@AuthenticationPrincipal JwtPrincipal principal" 로 받습니다. (DB 조회 없음)
+ *
+ * 예시: principal.getUid() 로 댓글 작성자를 지정하고, principal.getName() 으로 이메일을 얻습니다.
+ */
+public final class JwtPrincipal implements Principal {
+
+    // 토큰에 넣는 클레임 이름
+    public static final String UID_CLAIM = "uid";
+    public static final String ROLES_CLAIM = "roles";
+
+    private final Long uid;
+    private final String email;
+    private final List<GrantedAuthority> authorities;
+
+    private JwtPrincipal(Long uid, String email, List<GrantedAuthority> authorities) {
+        this.uid = uid;
+        this.email = email;
+        this.authorities = authorities;
+    }
+
+    /**
+     * 검증된 토큰의 클레임으로 principal 을 만듭니다.
+     *
+     * @param claims 검증이 끝난 액세스 토큰의 클레임
+     * @return principal (uid 클레임이 없는 예전 형식의 토큰이면 null)
+     */
+    static JwtPrincipal fromClaims(Claims claims) {
+        Number uid = claims.get(UID_CLAIM, Number.class);
+        if (uid == null || claims.getSubject() == null) {
+            return null;
+        }
+
+        Object roles = claims.get(ROLES_CLAIM);
+        return of(uid.longValue(), claims.getSubject(), roles instanceof Collection<?> names ? names : List.of());
+    }
+
+    /**
+     * 토큰을 새로 발급한 직후처럼 클레임 값을 이미 알고 있을 때 principal 을 만듭니다. (다시 파싱하지 않음)
+     *
+     * @param uid   사용자 고유 번호
+     * @param email 사용자 이메일
+     * @param roles 권한 이름 목록
+     */
+    static JwtPrincipal of(Long uid, String email, Collection<?> roles) {
+        List<GrantedAuthority> authorities = new ArrayList<>(roles.size());
+        for (Object role : roles) {
+            authorities.add(new SimpleGrantedAuthority(String.valueOf(role)));
+        }
+        return new JwtPrincipal(uid, email, List.copyOf(authorities));
+    }
+
+    // 사용자 고유 번호 (member_tbl.ID)
+    public Long getUid() {
+        return uid;
+    }
+
+    // 사용자 이메일 (Authentication.getName() 도 이 값을 반환)
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    public List<GrantedAuthority> getAuthorities() {
+        return authorities;
+    }
+
+    @Override
+    public String toString() {
+        return email;
+    }
+}
@@ -1,7 +1,7 @@
 package com.itnetwork.club_community.domain.auth;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -9,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
 
 /**
@@ -23,6 +24,8 @@ import java.util.Date;
 public class JwtTokenProvider {
     // JWT 토큰을 서명하고 검증하기 위한 비밀키
     private Key key;
+    // 토큰 검증용 파서 (불변 객체라서 한 번 만들어 모든 요청이 공유합니다)
+    private final JwtParser parser;
 
     /**
      * 생성자: application.properties에서 jwt.secret 값을 받아서 비밀키를 생성합니다.
@@ -32,6 +35,7 @@ public class JwtTokenProvider {
     public JwtTokenProvider(@Value("${jwt.secret}") String sKey) {
         // 문자열을 Key 객체로 변환 (HMAC SHA256 알고리즘 사용)
         this.key = Keys.hmacShaKeyFor(sKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
@@ -41,10 +45,15 @@ public class JwtTokenProvider {
      * ⚠️ 테스트용: 현재 1분으로 설정되어 있습니다.
      * 실제 운영 환경에서는 3시간(1000L * 60 * 60 * 3)으로 변경하세요.
      * 
+     * 사용자 고유 번호(uid)와 권한(roles)을 클레임으로 넣어서,
+     * JwtAuthFilter 가 DB 조회 없이 토큰만으로 인증 정보를 만들 수 있게 합니다.
+     * 
      * @param email 사용자의 이메일 (토큰에 포함될 사용자 식별 정보)
+     * @param uid 사용자 고유 번호
+     * @param roles 사용자 권한 이름 목록 (예: ROLE_USER)
      * @return 생성된 액세스 토큰 문자열
      */
-    public String GenerateToken(String email) {
+    public String GenerateToken(String email, Long uid, Collection<String> roles) {
         // 현재 시간을 밀리초로 가져옵니다
         long now = System.currentTimeMillis();
         // ⚠️ 테스트용: 액세스 토큰 유효기간 1분 (빠른 테스트를 위해)
@@ -54,12 +63,25 @@ public class JwtTokenProvider {
         // JWT 토큰을 생성합니다
         return Jwts.builder()
                 .setSubject(email)  // 토큰의 주체(사용자 이메일) 설정
+                .claim(JwtPrincipal.UID_CLAIM, uid)  // 사용자 고유 번호
+                .claim(JwtPrincipal.ROLES_CLAIM, roles)  // 사용자 권한
                 .setIssuedAt(new Date(now))  // 토큰 발급 시간 설정
                 .setExpiration(new Date(now + expire))  // 토큰 만료 시간 설정
                 .signWith(key, SignatureAlgorithm.HS256)  // 비밀키로 서명
                 .compact();  // 최종 토큰 문자열로 변환
     }
 
+    /**
+     * 액세스 토큰을 한 번 파싱해서 검증 결과(유효 / 만료 / 형식 오류)와 클레임을 함께 반환하는 메서드
+     * 유효 여부와 이메일이 모두 필요하면 IsValidate + GetEmailFromToken 대신 이 메서드를 사용하세요.
+     *
+     * @param token 검증할 액세스 토큰
+     * @return 검증 결과
+     */
+    public TokenValidation validate(String token) {
+        return TokenValidation.parse(parser, token);
+    }
+
     /**
      * 액세스 토큰이 유효한지 검증하는 메서드
      * 토큰이 만료되었거나 서명이 잘못되었으면 false를 반환합니다.
@@ -68,14 +90,7 @@ public class JwtTokenProvider {
      * @return 토큰이 유효하면 true, 그렇지 않으면 false
      */
     public boolean IsValidate(String token) {
-        try {
-            // 토큰을 파싱하고 서명을 검증합니다
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;  // 검증 성공
-        } catch (JwtException | IllegalArgumentException e) {
-            // 토큰이 만료되었거나 형식이 잘못된 경우
-            return false;  // 검증 실패
-        }
+        return validate(token).isValid();
     }
 
     /**
@@ -86,11 +101,7 @@ public class JwtTokenProvider {
      */
     public String GetEmailFromToken(String token) {
         // 토큰을 파싱해서 클레임(토큰에 포함된 정보)을 가져옵니다
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
 
         // 클레임에서 주체(이메일)를 반환합니다
         return claims.getSubject();
@@ -104,18 +115,8 @@ public class JwtTokenProvider {
      * @return 토큰이 만료되었으면 true, 아직 유효하면 false
      */
     public boolean isTokenExpired(String token) {
-        try {
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            // 만료 시간이 현재 시간보다 이전이면 만료됨
-            return claims.getExpiration().before(new Date());
-        } catch (JwtException | IllegalArgumentException e) {
-            // 파싱 실패 시 만료된 것으로 간주
-            return true;
-        }
+        // 파싱 실패(형식 오류)도 만료된 것으로 간주
+        return !validate(token).isValid();
     }
 
     /**
@@ -126,20 +127,12 @@ public class JwtTokenProvider {
      * @return 토큰에 포함된 사용자 이메일
      */
     public String GetEmailFromExpiredToken(String token) {
-        try {
-            // 만료된 토큰도 파싱할 수 있도록 설정 (만료 시간 검증 무시)
-            Claims claims = Jwts.parserBuilder()
-                    .setSigningKey(key)
-                    .build()
-                    .parseClaimsJws(token)
-                    .getBody();
-            return claims.getSubject();
-        } catch (JwtException e) {
-            // 만료된 토큰의 경우에도 클레임을 읽을 수 있도록 처리
-            // JWT 라이브러리는 만료된 토큰도 파싱할 수 있지만, 만료 예외가 발생합니다
-            // 예외를 무시하고 클레임을 읽어야 합니다
-            throw new IllegalArgumentException("토큰에서 이메일을 추출할 수 없습니다: " + e.getMessage());
+        // 만료 예외에 담긴 클레임까지 사용하므로 만료된 토큰도 이메일을 읽을 수 있습니다
+        String email = validate(token).getSubject();
+        if (email == null) {
+            throw new IllegalArgumentException("토큰에서 이메일을 추출할 수 없습니다.");
         }
+        return email;
     }
 
 }
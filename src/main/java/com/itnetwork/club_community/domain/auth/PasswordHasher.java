@@ -0,0 +1,164 @@
+package com.itnetwork.club_community.domain.auth;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 비밀번호 해시/검증(BCrypt)을 전용 스레드 풀에서 실행하는 컴포넌트
+ *
+ * BCrypt 는 한 번에 수십 ms 의 CPU 를 쓰므로, 로그인이 몰리면 Tomcat 요청 스레드와 CPU 를 모두 차지해서
+ * 게시글/댓글 조회까지 느려집니다. 해시 작업은 크기가 정해진 풀(threads)과 대기열(queue-capacity)에서만 돌리고,
+ * 대기열까지 꽉 차면 기다리지 않고 바로 429(Too Many Requests)로 거절합니다.
+ *
+ * - 설정한 cost(password.bcrypt.strength)보다 낮은 cost 로 저장된 비밀번호는 로그인 성공 후 백그라운드에서 다시 해시합니다.
+ *   새 해시의 DB 저장은 별도 스레드(password-rehash-save-)에서 해서, 해시 풀은 CPU 작업만 합니다.
+ * - 메트릭: auth.password.queue.depth, auth.password.active, auth.password.hash (op=encode / matches),
+ *   auth.password.rejected
+ */
+@Slf4j
+@Component
+public class PasswordHasher {
+
+    private final BCryptPasswordEncoder encoder;
+    private final ThreadPoolExecutor executor;
+    // 재해시 결과 저장(DB UPDATE)용 스레드 (해시 풀이 DB I/O 를 기다리지 않도록 분리)
+    private final ThreadPoolExecutor rehashSaver;
+
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHasher(BCryptPasswordEncoder encoder,
+                          MeterRegistry meterRegistry,
+                          @Value("${password.hash.threads:0}") int threads,
+                          @Value("${password.hash.queue-capacity:64}") int queueCapacity) {
+        this.encoder = encoder;
+        // 0 이면 CPU 코어의 절반 (나머지는 일반 요청 처리에 남겨둠)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.rehashSaver = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(Math.max(queueCapacity, 1)),
+                new CustomizableThreadFactory("password-rehash-save-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size())
+                .description("해시 대기열에 쌓인 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("실행 중인 해시 작업 수")
+                .register(meterRegistry);
+        this.encodeTimer = hashTimer(meterRegistry, "encode");
+        this.matchesTimer = hashTimer(meterRegistry, "matches");
+        this.rejected = Counter.builder("auth.password.rejected")
+                .description("대기열이 가득 차서 거절한 해시 작업 수")
+                .register(meterRegistry);
+    }
+
+    private static Timer hashTimer(MeterRegistry meterRegistry, String op) {
+        return Timer.builder("auth.password.hash")
+                .description("비밀번호 해시/검증 실행 시간 (대기 시간 제외)")
+                .tag("op", op)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 비밀번호 해시 (회원가입 등)
+     *
+     * @param rawPassword 평문 비밀번호
+     * @return BCrypt 해시
+     * @throws ResponseStatusException 해시 대기열이 가득 찼을 때 (429)
+     */
+    public String encode(String rawPassword) {
+        return await(submit(() -> encodeTimer.record(() -> encoder.encode(rawPassword))));
+    }
+
+    /**
+     * 비밀번호 검증 (로그인)
+     *
+     * @param rawPassword     입력한 평문 비밀번호
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @return 일치하면 true
+     * @throws ResponseStatusException 해시 대기열이 가득 찼을 때 (429)
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        return await(submit(() -> matchesTimer.record(() -> encoder.matches(rawPassword, encodedPassword))));
+    }
+
+    /**
+     * 저장된 해시의 cost 가 설정보다 낮으면 백그라운드에서 다시 해시해서 onRehashed 로 넘겨줍니다.
+     * 로그인 응답은 기다리지 않으며, 대기열이 가득 차 있으면 이번에는 건너뜁니다. (다음 로그인 때 다시 시도)
+     *
+     * @param rawPassword     검증이 끝난 평문 비밀번호
+     * @param encodedPassword 저장된 BCrypt 해시
+     * @param onRehashed      새 해시를 저장하는 콜백 (해시 풀이 아닌 저장 전용 스레드에서 실행)
+     */
+    public void rehashIfNeeded(String rawPassword, String encodedPassword, Consumer<String> onRehashed) {
+        if (!encoder.upgradeEncoding(encodedPassword)) {
+            return;
+        }
+        try {
+            CompletableFuture
+                    .supplyAsync(() -> encodeTimer.record(() -> encoder.encode(rawPassword)), executor)
+                    .thenAcceptAsync(onRehashed, rehashSaver) // 저장 대기열이 가득 차면 이번에는 건너뜀
+                    .exceptionally(e -> {
+                        log.warn("비밀번호 재해시 저장 실패", e);
+                        return null;
+                    });
+        } catch (RejectedExecutionException e) {
+            log.debug("해시 대기열이 가득 차서 비밀번호 재해시를 건너뜁니다.");
+        }
+    }
+
+    private <T> Future<T> submit(Callable<T> task) {
+        try {
+            return executor.submit(task);
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "요청이 많습니다. 잠시 후 다시 시도해주세요.");
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 처리 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        rehashSaver.shutdown();
+    }
+}
@@ -1,7 +1,7 @@
 package com.itnetwork.club_community.domain.auth;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 
 import java.security.Key;
 import java.util.Date;
+import java.util.UUID;
 
 /**
  * 리프레시 토큰을 생성하고 검증하는 클래스
@@ -23,6 +24,8 @@ import java.util.Date;
 public class RefreshTokenProvider {
     // JWT 토큰을 서명하고 검증하기 위한 비밀키
     private Key key;
+    // 토큰 검증용 파서 (불변 객체라서 한 번 만들어 모든 요청이 공유합니다)
+    private final JwtParser parser;
 
     /**
      * 생성자: application.properties에서 jwt.secret 값을 받아서 비밀키를 생성합니다.
@@ -32,6 +35,7 @@ public class RefreshTokenProvider {
     public RefreshTokenProvider(@Value("${jwt.secret}") String sKey) {
         // 문자열을 Key 객체로 변환 (HMAC SHA256 알고리즘 사용)
         this.key = Keys.hmacShaKeyFor(sKey.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
     }
 
     /**
@@ -54,6 +58,7 @@ public class RefreshTokenProvider {
 
         // JWT 토큰을 생성합니다
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())  // 토큰 고유 ID(jti) 설정 (폐기 목록에서 이 값으로 찾습니다)
                 .setSubject(email)  // 토큰의 주체(사용자 이메일) 설정
                 .setIssuedAt(new Date(now))  // 토큰 발급 시간 설정
                 .setExpiration(new Date(now + expire))  // 토큰 만료 시간 설정
@@ -61,22 +66,27 @@ public class RefreshTokenProvider {
                 .compact();  // 최종 토큰 문자열로 변환
     }
 
+    /**
+     * 리프레시 토큰을 한 번 파싱해서 검증 결과(유효 / 만료 / 형식 오류)와 클레임을 함께 반환하는 메서드
+     * 유효 여부와 이메일이 모두 필요하면 IsValidate + GetEmailFromToken 대신 이 메서드를 사용하세요.
+     *
+     * @param token 검증할 리프레시 토큰
+     * @return 검증 결과
+     */
+    public TokenValidation validate(String token) {
+        return TokenValidation.parse(parser, token);
+    }
+
     /**
      * 리프레시 토큰이 유효한지 검증하는 메서드
      * 토큰이 만료되었거나 서명이 잘못되었으면 false를 반환합니다.
+     * 서명만 확인하므로 폐기된(로그아웃한) 토큰도 true 입니다. 재발급에는 TokenRefreshService 를 사용하세요.
      *
      * @param token 검증할 리프레시 토큰
      * @return 토큰이 유효하면 true, 그렇지 않으면 false
      */
     public boolean IsValidate(String token) {
-        try {
-            // 토큰을 파싱하고 서명을 검증합니다
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;  // 검증 성공
-        } catch (JwtException | IllegalArgumentException e) {
-            // 토큰이 만료되었거나 형식이 잘못된 경우
-            return false;  // 검증 실패
-        }
+        return validate(token).isValid();
     }
 
     /**
@@ -87,11 +97,7 @@ public class RefreshTokenProvider {
      */
     public String GetEmailFromToken(String token) {
         // 토큰을 파싱해서 클레임(토큰에 포함된 정보)을 가져옵니다
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+        Claims claims = parser.parseClaimsJws(token).getBody();
 
         // 클레임에서 주체(이메일)를 반환합니다
         return claims.getSubject();
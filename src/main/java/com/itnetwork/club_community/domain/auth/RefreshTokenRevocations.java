@@ -0,0 +1,168 @@
+package com.itnetwork.club_community.domain.auth;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 폐기된 리프레시 토큰(jti) 목록
+ *
+ * 폐기 기록은 DB(revoked_refresh_token)에 남기고, 재발급마다 하는 "폐기됐는가?" 확인은 메모리에서만 답합니다.
+ * - 블룸 필터: 대부분의 토큰(폐기되지 않은 토큰)은 비트 몇 개만 읽고 바로 "아님"으로 끝납니다.
+ * - 정확한 집합(jti → 만료 시각): 블룸 필터가 "있을 수도 있음"이라고 할 때만 확인해서 오탐을 걸러냅니다.
+ * 조회는 잠금 없이 O(1)이고, 추가와 정리(블룸 필터 재구성)만 this 로 직렬화합니다.
+ *
+ * 만료 시각이 지난 토큰은 서명 검증에서 이미 거절되므로, 주기적으로 DB와 메모리에서 지우고 블룸 필터를 다시 만듭니다.
+ * 서버가 다시 뜨면 DB에서 아직 만료되지 않은 기록을 읽어 복원합니다. (서버 한 대 기준의 메모리 목록)
+ */
+@Component
+public class RefreshTokenRevocations {
+
+    private static final ZoneId ZONE = ZoneId.systemDefault();
+
+    private final RevokedRefreshTokenRepository repository;
+    private final int expectedInsertions;
+    private final double falsePositiveRate;
+
+    // jti → 토큰 만료 시각 (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    // 정리할 때 통째로 바꿔 끼우므로 volatile
+    private volatile BloomFilter filter;
+
+    public RefreshTokenRevocations(RevokedRefreshTokenRepository repository,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${refresh-token.revocation.expected-insertions:100000}") int expectedInsertions,
+                                   @Value("${refresh-token.revocation.false-positive-rate:0.01}") double falsePositiveRate) {
+        this.repository = repository;
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.filter = new BloomFilter(expectedInsertions, falsePositiveRate);
+        Gauge.builder("auth.refresh.revoked", revoked, Map::size)
+                .description("메모리에 유지 중인 폐기된 리프레시 토큰 수")
+                .register(meterRegistry);
+    }
+
+    // 서버 시작 시 아직 만료되지 않은 폐기 기록을 DB에서 복원
+    @PostConstruct
+    void load() {
+        for (RevokedRefreshToken token : repository.findByExpiresAtAfter(LocalDateTime.now())) {
+            remember(token.getJti(), token.getExpiresAt().atZone(ZONE).toInstant().toEpochMilli());
+        }
+    }
+
+    /**
+     * 폐기된 토큰인지 확인 (DB 조회 없음)
+     *
+     * @param jti 리프레시 토큰의 jti 클레임
+     * @return 폐기된 토큰이면 true
+     */
+    public boolean isRevoked(String jti) {
+        return filter.mightContain(jti) && revoked.containsKey(jti);
+    }
+
+    /**
+     * 토큰을 폐기합니다. DB에 먼저 저장한 뒤 메모리 목록에 반영하므로, 이 메서드가 끝나면 바로 isRevoked 에 걸립니다.
+     *
+     * @param jti       리프레시 토큰의 jti 클레임
+     * @param expiresAt 토큰의 원래 만료 시각 (이후 자동 정리)
+     */
+    public void revoke(String jti, Instant expiresAt) {
+        repository.insertIgnore(jti, LocalDateTime.ofInstant(expiresAt, ZONE));
+        remember(jti, expiresAt.toEpochMilli());
+    }
+
+    private synchronized void remember(String jti, long expiresAtMillis) {
+        revoked.put(jti, expiresAtMillis);
+        filter.put(jti);
+    }
+
+    // 만료된 기록을 DB와 메모리에서 지우고, 남은 항목으로 블룸 필터를 다시 만듭니다 (지워진 비트는 블룸 필터에서 뺄 수 없음)
+    @Scheduled(fixedDelayString = "${refresh-token.revocation.prune-interval:10m}",
+            initialDelayString = "${refresh-token.revocation.prune-interval:10m}")
+    public void prune() {
+        repository.deleteExpired(LocalDateTime.now());
+
+        long now = System.currentTimeMillis();
+        synchronized (this) {
+            if (!revoked.values().removeIf(expiresAt -> expiresAt <= now)) {
+                return;
+            }
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revoked.size()), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::put);
+            filter = rebuilt;
+        }
+    }
+
+    /**
+     * 고정 크기 블룸 필터 (비트 배열 + 더블 해싱)
+     * 비트 설정은 AtomicLongArray 의 CAS 로 해서 조회 스레드가 잠금 없이 읽을 수 있습니다.
+     */
+    static final class BloomFilter {
+
+        private final AtomicLongArray bits;
+        private final long bitCount;
+        private final int hashCount;
+
+        BloomFilter(int expectedInsertions, double falsePositiveRate) {
+            long n = Math.max(1, expectedInsertions);
+            long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            this.bits = new AtomicLongArray((int) Math.max(1, (m + 63) >>> 6));
+            this.bitCount = (long) bits.length() << 6;
+            this.hashCount = Math.max(1, (int) Math.round((double) m / n * Math.log(2)));
+        }
+
+        void put(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current;
+                while (((current = bits.get(word)) & mask) == 0
+                        && !bits.compareAndSet(word, current, current | mask)) {
+                    // 다른 스레드가 같은 워드를 바꿨으면 다시 시도
+                }
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash1 = hash(value);
+            long hash2 = mix(hash1);
+            for (int i = 0; i < hashCount; i++) {
+                long index = Long.remainderUnsigned(hash1 + i * hash2, bitCount);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        // 64비트 FNV-1a
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+
+        // 두 번째 해시 (SplitMix64 마무리 단계, 0이 되지 않도록 홀수로)
+        private static long mix(long hash) {
+            hash = (hash ^ (hash >>> 30)) * 0xbf58476d1ce4e5b9L;
+            hash = (hash ^ (hash >>> 27)) * 0x94d049bb133111ebL;
+            return (hash ^ (hash >>> 31)) | 1L;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.itnetwork.club_community.domain.auth;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 폐기된 리프레시 토큰 (로그아웃, 재발급 시 교체된 토큰)
+ * 데이터베이스의 revoked_refresh_token 테이블과 매핑됩니다.
+ *
+ * 토큰의 jti(고유 ID)와 원래 만료 시각만 저장하며, 만료 시각이 지나면 서명 검증에서 이미 걸러지므로 지워도 됩니다.
+ * 서버가 다시 뜰 때 이 테이블로 메모리의 폐기 목록(RefreshTokenRevocations)을 복원합니다.
+ */
+@Entity
+@Table(name = "revoked_refresh_token",
+        indexes = @Index(name = "idx_revoked_refresh_token_expires_at", columnList = "EXPIRES_AT")) // 만료분 정리용
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class RevokedRefreshToken {
+
+    /**
+     * 리프레시 토큰의 jti 클레임 (UUID)
+     */
+    @Id
+    @Column(name = "JTI", nullable = false, length = 36)
+    private String jti;
+
+    /**
+     * 토큰의 원래 만료 시각 (이후에는 폐기 기록이 필요 없음)
+     */
+    @Column(name = "EXPIRES_AT", nullable = false)
+    private LocalDateTime expiresAt;
+}
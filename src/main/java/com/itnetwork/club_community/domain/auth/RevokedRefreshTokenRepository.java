@@ -0,0 +1,31 @@
+package com.itnetwork.club_community.domain.auth;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RevokedRefreshTokenRepository extends JpaRepository<RevokedRefreshToken, String> {
+
+    // 폐기 기록 저장 (같은 토큰을 두 번 폐기해도 오류 없이 한 건만 남음)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO revoked_refresh_token (JTI, EXPIRES_AT) VALUES (:jti, :expiresAt)",
+            nativeQuery = true)
+    int insertIgnore(@Param("jti") String jti, @Param("expiresAt") LocalDateTime expiresAt);
+
+    // 아직 만료되지 않은 폐기 기록 (서버 시작 시 메모리 목록 복원용)
+    List<RevokedRefreshToken> findByExpiresAtAfter(LocalDateTime now);
+
+    // 만료된 폐기 기록 정리
+    @Transactional
+    @Modifying
+    @Query("delete from RevokedRefreshToken r where r.expiresAt <= :now")
+    int deleteExpired(@Param("now") LocalDateTime now);
+}
@@ -0,0 +1,30 @@
+package com.itnetwork.club_community.domain.auth;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * 토큰 원문 대신 캐시/맵의 키로 쓰는 SHA-256 다이제스트
+ * 토큰 문자열을 메모리에 오래 들고 있지 않고, 키 길이도 토큰과 관계없이 43자로 고정됩니다.
+ */
+final class TokenDigests {
+
+    // MessageDigest 는 스레드 안전하지 않으므로 스레드마다 하나씩 사용
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e); // 모든 JVM 에 포함된 알고리즘
+        }
+    });
+
+    private TokenDigests() {
+    }
+
+    static String sha256(String token) {
+        byte[] hash = SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII));
+        return Base64.getEncoder().withoutPadding().encodeToString(hash);
+    }
+}
@@ -0,0 +1,213 @@
+package com.itnetwork.club_community.domain.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.itnetwork.club_community.domain.user.UserSnapshot;
+import com.itnetwork.club_community.domain.user.UserSnapshotCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+
+/**
+ * 리프레시 토큰으로 새 액세스 토큰을 발급하는 서비스 (동시 요청 합치기)
+ *
+ * 탭이 다시 활성화되면 SPA 가 여러 요청을 동시에 보내고, 각각 액세스 토큰 만료로 실패한 뒤
+ * 같은 리프레시 토큰으로 /api/auth/refresh 또는 Refresh-Token 헤더 재발급을 시도합니다.
+ * 같은 리프레시 토큰의 재발급은 하나만 실제로 수행(서명 검증, 사용자 조회, 토큰 생성)하고,
+ * 동시에 들어온 나머지 요청과 coalesce-window 안에 들어온 요청은 그 결과(같은 액세스 토큰)를 함께 받습니다.
+ *
+ * - 실패한 재발급은 바로 지워서 다음 요청이 다시 시도할 수 있게 합니다.
+ * - 키는 리프레시 토큰의 SHA-256 다이제스트입니다.
+ * - 폐기된 리프레시 토큰(jti)은 RefreshTokenRevocations 에서 메모리로 확인해서 거절합니다.
+ * - /api/auth/refresh 는 리프레시 토큰도 교체(rotation)합니다: 쓰인 토큰은 폐기하고 새 리프레시 토큰을 함께 발급합니다.
+ *   진행 중에 합류한 요청만 같은 새 토큰을 받으므로, 탭 여러 개가 한꺼번에 재발급해도 로그아웃되지 않습니다.
+ *   교체 결과는 발급이 끝나는 즉시 지워서, 그 뒤에 폐기된 토큰을 다시 보내면 coalesce-window 안이라도 폐기 확인에서 거절됩니다.
+ * - 메트릭: auth.token.refresh (result=issued / rotated / coalesced / rejected)
+ */
+@Service
+public class TokenRefreshService {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RefreshTokenProvider refreshTokenProvider;
+    private final UserSnapshotCache userSnapshotCache;
+    private final RefreshTokenRevocations revocations;
+    // /api/auth/refresh 에서 리프레시 토큰을 교체할지 여부
+    private final boolean rotationEnabled;
+    // 리프레시 토큰 다이제스트 (교체 발급은 "rotate:" 접두어) → 진행 중이거나 방금 끝난 재발급 결과
+    private final Cache<String, CompletableFuture<RefreshedToken>> inFlight;
+
+    private final Counter issued;
+    private final Counter rotated;
+    private final Counter coalesced;
+    private final Counter rejected;
+
+    public TokenRefreshService(JwtTokenProvider jwtTokenProvider,
+                               RefreshTokenProvider refreshTokenProvider,
+                               UserSnapshotCache userSnapshotCache,
+                               RefreshTokenRevocations revocations,
+                               MeterRegistry meterRegistry,
+                               @Value("${refresh-token.rotation.enabled:true}") boolean rotationEnabled,
+                               @Value("${jwt.refresh.coalesce-window:3s}") Duration coalesceWindow,
+                               @Value("${jwt.refresh.maximum-size:10000}") long maximumSize) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.refreshTokenProvider = refreshTokenProvider;
+        this.userSnapshotCache = userSnapshotCache;
+        this.revocations = revocations;
+        this.rotationEnabled = rotationEnabled;
+        this.inFlight = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(coalesceWindow)
+                .build();
+        this.issued = refreshCounter(meterRegistry, "issued");
+        this.rotated = refreshCounter(meterRegistry, "rotated");
+        this.coalesced = refreshCounter(meterRegistry, "coalesced");
+        this.rejected = refreshCounter(meterRegistry, "rejected");
+    }
+
+    private static Counter refreshCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("auth.token.refresh")
+                .description("리프레시 토큰으로 액세스 토큰을 재발급한 결과")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰 발급 (리프레시 토큰은 그대로 사용)
+     * 같은 리프레시 토큰으로 동시에 호출되면 한 번만 발급하고 모두 같은 결과를 받습니다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @return 새 액세스 토큰과 사용자 정보 (refreshToken 은 null)
+     * @throws IllegalArgumentException 리프레시 토큰이 유효하지 않거나 폐기되었거나 사용자가 없을 때
+     */
+    public RefreshedToken refresh(String refreshToken) {
+        requireToken(refreshToken);
+        return coalesce(TokenDigests.sha256(refreshToken), false, () -> issue(refreshToken, false));
+    }
+
+    /**
+     * 리프레시 토큰으로 새 액세스 토큰과 새 리프레시 토큰 발급 (쓰인 리프레시 토큰은 폐기)
+     * 교체가 꺼져 있으면 refresh 와 같습니다.
+     *
+     * @param refreshToken 리프레시 토큰
+     * @return 새 액세스 토큰, 새 리프레시 토큰(교체가 꺼져 있으면 null), 사용자 정보
+     * @throws IllegalArgumentException 리프레시 토큰이 유효하지 않거나 폐기되었거나 사용자가 없을 때
+     */
+    public RefreshedToken refreshAndRotate(String refreshToken) {
+        if (!rotationEnabled) {
+            return refresh(refreshToken);
+        }
+        requireToken(refreshToken);
+        String key = TokenDigests.sha256(refreshToken);
+        RefreshedToken result = coalesce("rotate:" + key, true, () -> issue(refreshToken, true));
+        // 폐기된 토큰이 Refresh-Token 헤더 재발급에 남은 결과로 액세스 토큰을 더 받지 못하도록 함
+        inFlight.invalidate(key);
+        return result;
+    }
+
+    /**
+     * 리프레시 토큰 폐기 (로그아웃)
+     * 이미 만료되었거나 형식이 잘못된 토큰은 쓸 수 없으므로 그냥 무시합니다.
+     *
+     * @param refreshToken 리프레시 토큰 (없으면 무시)
+     */
+    public void revoke(String refreshToken) {
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            return;
+        }
+        TokenValidation validation = refreshTokenProvider.validate(refreshToken);
+        String jti = validation.isValid() ? validation.getClaims().getId() : null;
+        if (jti != null) {
+            revocations.revoke(jti, validation.getClaims().getExpiration().toInstant());
+        }
+
+        // 방금 끝난 재발급 결과를 나눠 받지 못하도록 합치기 항목도 지움
+        String key = TokenDigests.sha256(refreshToken);
+        inFlight.invalidate(key);
+        inFlight.invalidate("rotate:" + key);
+    }
+
+    private void requireToken(String refreshToken) {
+        if (refreshToken == null || refreshToken.isEmpty()) {
+            rejected.increment();
+            throw new IllegalArgumentException("리프레시 토큰이 필요합니다.");
+        }
+    }
+
+    // 같은 키로 진행 중이거나 방금 끝난 재발급이 있으면 그 결과를 받고, 없으면 직접 발급
+    // inFlightOnly 이면 발급이 끝나는 즉시 지워서 진행 중에 합류한 요청만 결과를 받음 (교체 발급용)
+    private RefreshedToken coalesce(String key, boolean inFlightOnly, Supplier<RefreshedToken> issuer) {
+        CompletableFuture<RefreshedToken> mine = new CompletableFuture<>();
+        CompletableFuture<RefreshedToken> existing = inFlight.asMap().putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            RefreshedToken result = issuer.get();
+            mine.complete(result);
+            if (inFlightOnly) {
+                inFlight.asMap().remove(key, mine);
+            }
+            (result.refreshToken() == null ? issued : rotated).increment();
+            return result;
+        } catch (RuntimeException e) {
+            // 실패는 공유만 하고 남겨두지 않음 (기다리던 요청들도 같은 예외를 받음)
+            inFlight.asMap().remove(key, mine);
+            mine.completeExceptionally(e);
+            rejected.increment();
+            throw e;
+        }
+    }
+
+    // 실제 재발급: 리프레시 토큰 검증 → 폐기 여부 확인 → 사용자 확인 → 액세스 토큰 생성 (→ 교체 시 기존 토큰 폐기 후 새 리프레시 토큰 생성)
+    private RefreshedToken issue(String refreshToken, boolean rotate) {
+        TokenValidation validation = refreshTokenProvider.validate(refreshToken);
+        if (!validation.isValid()) {
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+        // jti 가 없는 토큰(이 기능 이전에 발급된 토큰)은 폐기할 수 없으므로 받지 않음
+        String jti = validation.getClaims().getId();
+        if (jti == null || revocations.isRevoked(jti)) {
+            throw new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다.");
+        }
+
+        UserSnapshot user = userSnapshotCache.findByEmail(validation.getSubject())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        String accessToken = jwtTokenProvider.GenerateToken(user.email(), user.uid(), user.roles());
+        if (!rotate) {
+            return new RefreshedToken(accessToken, null, user);
+        }
+
+        revocations.revoke(jti, validation.getClaims().getExpiration().toInstant());
+        String newRefreshToken = refreshTokenProvider.GenerateRefreshToken(user.email());
+        return new RefreshedToken(accessToken, newRefreshToken, user);
+    }
+
+    private static RefreshedToken await(CompletableFuture<RefreshedToken> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 재발급 결과
+     *
+     * @param accessToken  새 액세스 토큰
+     * @param refreshToken 새 리프레시 토큰 (교체하지 않았으면 null)
+     * @param user         토큰 주인 (인증 정보 생성용)
+     */
+    public record RefreshedToken(String accessToken, String refreshToken, UserSnapshot user) {
+    }
+}
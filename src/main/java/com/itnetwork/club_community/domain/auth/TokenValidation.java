@@ -0,0 +1,79 @@
+package com.itnetwork.club_community.domain.auth;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
+
+/**
+ * 토큰 검증 결과를 담는 클래스
+ * 토큰을 한 번만 파싱(서명 검증 포함)하고, 그 결과(유효 / 만료 / 형식 오류)와 클레임을 함께 돌려줍니다.
+ *
+ * 예시: 필터에서 validate(token) 한 번으로 유효 여부와 이메일(subject)을 모두 얻습니다.
+ */
+public final class TokenValidation {
+
+    /**
+     * 검증 결과 상태
+     */
+    public enum Status {
+        VALID,     // 서명과 만료 시간 모두 정상
+        EXPIRED,   // 서명은 정상이지만 만료됨 (클레임은 읽을 수 있음)
+        MALFORMED  // 서명 오류, 형식 오류, 빈 토큰 등
+    }
+
+    private static final TokenValidation MALFORMED = new TokenValidation(Status.MALFORMED, null);
+
+    private final Status status;
+    private final Claims claims; // MALFORMED 이면 null
+
+    private TokenValidation(Status status, Claims claims) {
+        this.status = status;
+        this.claims = claims;
+    }
+
+    /**
+     * 주어진 파서로 토큰을 한 번 파싱해서 검증 결과를 만듭니다.
+     * JwtParser 는 불변 객체라서 여러 스레드가 공유해도 안전합니다.
+     *
+     * @param parser 서명 키가 설정된 파서
+     * @param token  검증할 토큰
+     * @return 검증 결과
+     */
+    static TokenValidation parse(JwtParser parser, String token) {
+        try {
+            return new TokenValidation(Status.VALID, parser.parseClaimsJws(token).getBody());
+        } catch (ExpiredJwtException e) {
+            // 만료 예외는 서명 검증이 끝난 뒤에 발생하므로 클레임을 믿고 쓸 수 있습니다
+            return new TokenValidation(Status.EXPIRED, e.getClaims());
+        } catch (JwtException | IllegalArgumentException e) {
+            return MALFORMED;
+        }
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public boolean isValid() {
+        return status == Status.VALID;
+    }
+
+    public boolean isExpired() {
+        return status == Status.EXPIRED;
+    }
+
+    /**
+     * @return 토큰의 클레임 (유효하거나 만료된 토큰만, 형식 오류면 null)
+     */
+    public Claims getClaims() {
+        return claims;
+    }
+
+    /**
+     * @return 토큰의 주체(사용자 이메일) (형식 오류면 null)
+     */
+    public String getSubject() {
+        return claims == null ? null : claims.getSubject();
+    }
+}
@@ -0,0 +1,96 @@
+package com.itnetwork.club_community.domain.auth;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검증이 끝난 액세스 토큰 캐시
+ *
+ * SPA 는 같은 액세스 토큰을 만료될 때까지 여러 요청에 보내므로, 한 번 검증(Base64 디코딩, 클레임 파싱, HMAC 검증)한
+ * 결과를 토큰의 SHA-256 다이제스트를 키로 보관해두고 다음 요청부터는 다이제스트 계산만으로 결과를 돌려줍니다.
+ *
+ * - 유효한(VALID) 토큰만 캐시합니다. 만료/형식 오류 토큰은 매번 검증합니다.
+ * - 항목은 토큰의 만료 시각(exp)과 max-ttl 중 이른 시점에 사라지고, 꺼낼 때도 만료 시각을 한 번 더 확인합니다.
+ * - 키는 토큰 원문이 아니라 다이제스트이므로 캐시에 토큰 문자열이 남지 않습니다.
+ * - Caffeine 캐시는 읽기에 전역 락을 잡지 않으므로 요청이 많아도 경합이 거의 없습니다.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final Cache<String, TokenValidation> cache;
+
+    public VerifiedTokenCache(JwtTokenProvider jwtTokenProvider,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                              @Value("${jwt.cache.max-ttl:5m}") Duration maxTtl) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        long maxTtlNanos = maxTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<String, TokenValidation>() {
+                    @Override
+                    public long expireAfterCreate(String key, TokenValidation value, long currentTime) {
+                        long untilExpiry = TimeUnit.MILLISECONDS.toNanos(
+                                expiresAt(value) - System.currentTimeMillis());
+                        return Math.max(0L, Math.min(untilExpiry, maxTtlNanos));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, TokenValidation value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, TokenValidation value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration; // 읽어도 만료 시점은 늘어나지 않음
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "verifiedTokens");
+    }
+
+    /**
+     * 액세스 토큰 검증 (캐시에 있으면 서명 검증 생략)
+     *
+     * @param token 액세스 토큰
+     * @return 검증 결과 (JwtTokenProvider.validate 와 같은 의미)
+     */
+    public TokenValidation validate(String token) {
+        if (token == null || token.isEmpty()) {
+            return jwtTokenProvider.validate(token);
+        }
+
+        String key = TokenDigests.sha256(token);
+        TokenValidation cached = cache.getIfPresent(key);
+        if (cached != null) {
+            if (expiresAt(cached) > System.currentTimeMillis()) {
+                return cached;
+            }
+            cache.invalidate(key); // 만료 처리 전에 꺼낸 경우
+        }
+
+        TokenValidation validation = jwtTokenProvider.validate(token);
+        if (validation.isValid() && validation.getClaims().getExpiration() != null) {
+            cache.put(key, validation);
+        }
+        return validation;
+    }
+
+    private static long expiresAt(TokenValidation validation) {
+        Date expiration = validation.getClaims().getExpiration();
+        return expiration == null ? 0L : expiration.getTime();
+    }
+}
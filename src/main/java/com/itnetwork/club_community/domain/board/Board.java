@@ -1,13 +1,20 @@
 package com.itnetwork.club_community.domain.board;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.ColumnDefault;
+
 import java.time.LocalDateTime;
 
 @Entity //DB 테이블과 연결
+@Table(indexes = @Index(name = "idx_board_created_at_id", columnList = "createdAt, id")) // 최신순 키셋 조회용
 public class Board {
 
+    static final int ID_ALLOCATION_SIZE = 50;
+
     @Id // 기본 키
-    @GeneratedValue(strategy = GenerationType.IDENTITY) // ID 자동 증가
+    // 시퀀스에서 ID를 50개씩 미리 받아와서(pooled) INSERT 를 JDBC 배치로 묶을 수 있게 함
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = Board.ID_ALLOCATION_SIZE)
     private Long id;
 
     private String title;
@@ -15,6 +22,14 @@ public class Board {
 
     private LocalDateTime createdAt = LocalDateTime.now(); // 작성 시간 기록
 
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long views; // 조회수 (BoardViewCounter 가 모아서 주기적으로 반영)
+
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long commentCount; // 댓글 수 (댓글 작성/삭제 시 UPDATE 로 증감, BoardCommentCountReconciler 가 보정)
+
     protected Board() {}
     public Board(String title, String content) {
         this.title = title;
@@ -26,4 +41,6 @@ public class Board {
     public String getTitle() { return title; }
     public String getContent() { return content; }
     public LocalDateTime getCreatedAt() { return createdAt; }
+    public long getViews() { return views; }
+    public long getCommentCount() { return commentCount; }
 }
\ No newline at end of file
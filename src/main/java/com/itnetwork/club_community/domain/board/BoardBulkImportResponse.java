@@ -0,0 +1,83 @@
+package com.itnetwork.club_community.domain.board;
+
+import java.util.List;
+
+// 게시글 일괄 등록 결과 (전체 건수와 항목별 결과)
+public class BoardBulkImportResponse {
+
+    public static final String CREATED = "CREATED";
+    public static final String INVALID = "INVALID";
+    public static final String FAILED = "FAILED";
+
+    private final int received;
+    private final int created;
+    private final int failed;
+    private final List<Item> results;
+
+    public BoardBulkImportResponse(int received, int created, int failed, List<Item> results) {
+        this.received = received;
+        this.created = created;
+        this.failed = failed;
+        this.results = results;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<Item> getResults() {
+        return results;
+    }
+
+    // 요청 순서(index) 기준 항목별 결과
+    public static class Item {
+
+        private final int index;
+        private final String status;
+        private final Long id;
+        private final String message;
+
+        public Item(int index, String status, Long id, String message) {
+            this.index = index;
+            this.status = status;
+            this.id = id;
+            this.message = message;
+        }
+
+        public static Item created(int index, Long id) {
+            return new Item(index, CREATED, id, null);
+        }
+
+        public static Item invalid(int index, String message) {
+            return new Item(index, INVALID, null, message);
+        }
+
+        public static Item failed(int index, String message) {
+            return new Item(index, FAILED, null, message);
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public String getStatus() {
+            return status;
+        }
+
+        public Long getId() {
+            return id;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
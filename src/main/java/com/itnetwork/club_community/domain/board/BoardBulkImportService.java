@@ -0,0 +1,151 @@
+package com.itnetwork.club_community.domain.board;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 일괄 등록 (이전 사이트의 공지/보관글 이관용)
+ *
+ * - 요청 본문은 JSON 배열 또는 NDJSON(한 줄에 객체 하나)이며, 전체를 메모리에 올리지 않고 한 건씩 읽습니다.
+ * - 검증을 통과한 항목만 batch-size 건씩 모아서 각각 별도 트랜잭션으로 저장합니다.
+ *   한 묶음이 실패하면 그 묶음만 FAILED 로 표시되고, 이미 저장된 묶음은 그대로 유지됩니다.
+ *
+ * 이 클래스는 트랜잭션을 열지 않습니다. (묶음 단위 트랜잭션은 BoardService.createAll 이 담당)
+ */
+@Slf4j
+@Service
+public class BoardBulkImportService {
+
+    private final BoardService boardService;
+    private final Validator validator;
+    private final ObjectReader reader;
+    private final int batchSize;
+    private final int maxItems;
+
+    public BoardBulkImportService(BoardService boardService, Validator validator, ObjectMapper objectMapper,
+                                  @Value("${board.bulk.batch-size:50}") int batchSize,
+                                  @Value("${board.bulk.max-items:5000}") int maxItems) {
+        this.boardService = boardService;
+        this.validator = validator;
+        this.reader = objectMapper.readerFor(BoardCreateRequest.class);
+        this.batchSize = Math.max(batchSize, 1);
+        this.maxItems = maxItems;
+    }
+
+    public BoardBulkImportResponse importFrom(InputStream body) throws IOException {
+        List<BoardBulkImportResponse.Item> results = new ArrayList<>();
+        List<BoardCreateRequest> batch = new ArrayList<>(batchSize);
+        List<Integer> batchIndexes = new ArrayList<>(batchSize);
+        int received = 0;
+
+        MappingIterator<BoardCreateRequest> items;
+        try {
+            items = reader.readValues(body);
+        } catch (JsonProcessingException e) {
+            // 첫 토큰부터 JSON 이 아니면 아무것도 저장하지 않고 항목 0 을 INVALID 로 보고
+            results.add(BoardBulkImportResponse.Item.invalid(0, "JSON 형식이 올바르지 않습니다."));
+            return summarize(1, results);
+        }
+
+        try (items) {
+            while (true) {
+                int index = received;
+                BoardCreateRequest request;
+                try {
+                    // 항목 사이의 문법 오류(잘린 NDJSON 줄, 배열 안의 쓰레기 값)는 hasNextValue 에서 발생
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    received++;
+                    if (index >= maxItems) {
+                        results.add(BoardBulkImportResponse.Item.invalid(index,
+                                "한 번에 최대 " + maxItems + "건까지 등록할 수 있습니다."));
+                        break;
+                    }
+                    request = items.nextValue();
+                } catch (JsonProcessingException e) {
+                    // 파싱 위치를 잃어버려 이후 항목은 신뢰할 수 없으므로 여기서 중단
+                    received = index + 1;
+                    results.add(BoardBulkImportResponse.Item.invalid(index, "JSON 형식이 올바르지 않습니다."));
+                    break;
+                }
+
+                String error = validate(request);
+                if (error != null) {
+                    results.add(BoardBulkImportResponse.Item.invalid(index, error));
+                    continue;
+                }
+                batch.add(request);
+                batchIndexes.add(index);
+                if (batch.size() >= batchSize) {
+                    flush(batch, batchIndexes, results);
+                }
+            }
+        } finally {
+            // 읽기 도중 오류가 나도 이미 검증된 항목은 저장
+            flush(batch, batchIndexes, results);
+        }
+
+        return summarize(received, results);
+    }
+
+    private static BoardBulkImportResponse summarize(int received, List<BoardBulkImportResponse.Item> results) {
+        results.sort(Comparator.comparingInt(BoardBulkImportResponse.Item::getIndex));
+        int created = (int) results.stream()
+                .filter(item -> BoardBulkImportResponse.CREATED.equals(item.getStatus()))
+                .count();
+        return new BoardBulkImportResponse(received, created, results.size() - created, results);
+    }
+
+    private String validate(BoardCreateRequest request) {
+        if (request == null) {
+            return "게시글 객체가 아닙니다.";
+        }
+        Set<ConstraintViolation<BoardCreateRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(" "));
+    }
+
+    private void flush(List<BoardCreateRequest> batch, List<Integer> indexes,
+                       List<BoardBulkImportResponse.Item> results) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            List<Board> saved = boardService.createAll(batch);
+            for (int i = 0; i < saved.size(); i++) {
+                results.add(BoardBulkImportResponse.Item.created(indexes.get(i), saved.get(i).getId()));
+            }
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("게시글 일괄 등록 중 {}건 저장 실패", batch.size(), e);
+            for (Integer index : indexes) {
+                results.add(BoardBulkImportResponse.Item.failed(index, "저장에 실패했습니다."));
+            }
+        } finally {
+            batch.clear();
+            indexes.clear();
+        }
+    }
+}
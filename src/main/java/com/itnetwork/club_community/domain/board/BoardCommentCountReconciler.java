@@ -0,0 +1,37 @@
+package com.itnetwork.club_community.domain.board;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// Board.commentCount 보정 작업
+// 댓글 작성/삭제 시 증감 UPDATE 로 유지하지만, 직접 DB를 고치거나 실패한 작업이 있으면 어긋날 수 있으므로
+// 주기적으로 실제 댓글 수와 비교해 다른 행만 고칩니다.
+// 게시글 ID 구간별로 짧은 트랜잭션을 나눠서 실행하므로 한 번에 많은 행을 잠그지 않습니다.
+@Slf4j
+@Component
+public class BoardCommentCountReconciler {
+
+    private final BoardRepository boardRepository;
+    private final int chunkSize;
+
+    public BoardCommentCountReconciler(BoardRepository boardRepository,
+                                       @Value("${board.comment-count.reconcile-chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.chunkSize = Math.max(chunkSize, 1);
+    }
+
+    // 기동 직후 한 번 실행해서 컬럼이 새로 생긴 경우(모두 0)에도 바로 채워지도록 초기 지연은 두지 않습니다.
+    @Scheduled(fixedDelayString = "${board.comment-count.reconcile-interval-ms:3600000}")
+    public void reconcile() {
+        long maxId = boardRepository.findMaxId();
+        int repaired = 0;
+        for (long from = 0; from < maxId; from += chunkSize) {
+            repaired += boardRepository.repairCommentCounts(from, from + chunkSize);
+        }
+        if (repaired > 0) {
+            log.info("게시글 댓글 수 보정: {}건", repaired);
+        }
+    }
+}
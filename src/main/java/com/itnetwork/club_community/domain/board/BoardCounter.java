@@ -0,0 +1,80 @@
+package com.itnetwork.club_community.domain.board;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+// 전체 게시글 수를 메모리에 유지하는 카운터
+// 게시글 저장/삭제 시 커밋 후 바로 반영하고, 주기적으로 DB의 COUNT(*) 와 맞춰 오차를 보정합니다.
+@Component
+public class BoardCounter {
+
+    private static final long UNKNOWN = -1L;
+    // 첫 집계 도중 변경이 계속 들어올 때 다시 시도하는 횟수
+    private static final int INITIAL_LOAD_ATTEMPTS = 3;
+
+    private final BoardRepository boardRepository;
+
+    private volatile long count = UNKNOWN;
+    private long writes; // 재집계 도중 들어온 변경을 감지하기 위한 변경 횟수 (this 로 보호)
+
+    public BoardCounter(BoardRepository boardRepository) {
+        this.boardRepository = boardRepository;
+    }
+
+    // 현재 게시글 수 (아직 한 번도 집계하지 않았다면 DB에서 가져옵니다)
+    public long get() {
+        long current = count;
+        return current == UNKNOWN ? load() : current;
+    }
+
+    // 첫 집계: 집계 도중 변경이 있었다면 그 변경이 COUNT(*) 에 들어갔는지 알 수 없으므로 다시 집계합니다.
+    // (집계 전 값이 없을 때 들어온 증감은 무시되므로, 변경 없이 끝난 집계만 믿을 수 있음)
+    private long load() {
+        for (int attempt = 0; attempt < INITIAL_LOAD_ATTEMPTS; attempt++) {
+            reconcile();
+            long current = count;
+            if (current != UNKNOWN) {
+                return current;
+            }
+        }
+        // 쓰기가 계속 몰리면 마지막 집계값으로 시작하고 다음 주기 재집계에서 보정
+        long actual = boardRepository.count();
+        synchronized (this) {
+            if (count == UNKNOWN) {
+                count = actual;
+            }
+            return count;
+        }
+    }
+
+    public void increment() {
+        add(1);
+    }
+
+    public void decrement() {
+        add(-1);
+    }
+
+    public synchronized void add(long delta) {
+        writes++;
+        if (count != UNKNOWN) {
+            count += delta;
+        }
+    }
+
+    // DB 기준으로 다시 집계합니다. 집계 중에 변경이 있었다면 이번 결과는 버리고 다음 주기에 맞춥니다. (첫 집계 포함)
+    @Scheduled(fixedDelayString = "${board.count.reconcile-interval-ms:300000}",
+            initialDelayString = "${board.count.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        long before;
+        synchronized (this) {
+            before = writes;
+        }
+        long actual = boardRepository.count();
+        synchronized (this) {
+            if (writes == before) {
+                count = actual;
+            }
+        }
+    }
+}
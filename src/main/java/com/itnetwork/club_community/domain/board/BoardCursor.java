@@ -0,0 +1,53 @@
+package com.itnetwork.club_community.domain.board;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+// 키셋 페이지네이션 커서 (createdAt, id)
+// 클라이언트에는 Base64 로 인코딩한 불투명 문자열로만 전달합니다.
+public final class BoardCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    private BoardCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public static BoardCursor of(LocalDateTime createdAt, Long id) {
+        return new BoardCursor(createdAt, id);
+    }
+
+    public static BoardCursor decode(String value) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            if (idx < 0) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            LocalDateTime createdAt = LocalDateTime.parse(raw.substring(0, idx));
+            Long id = Long.valueOf(raw.substring(idx + 1));
+            return new BoardCursor(createdAt, id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,65 @@
+package com.itnetwork.club_community.domain.board;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Function;
+
+// 게시글 상세 조회 캐시 (Caffeine, W-TinyLFU 기반 크기 제한 + TTL)
+// 없는 게시글도 Optional.empty() 로 짧게 캐시해서 존재하지 않는 ID 반복 요청이 DB까지 가지 않게 합니다.
+// 적중/미스/제거 통계는 /actuator/metrics 의 cache.* 메트릭(cache=boardDetail)으로 확인할 수 있습니다.
+@Component
+public class BoardDetailCache {
+
+    private final Cache<Long, Optional<BoardDto>> cache;
+
+    public BoardDetailCache(MeterRegistry meterRegistry,
+                            @Value("${board.cache.maximum-size:10000}") long maximumSize,
+                            @Value("${board.cache.ttl:10m}") Duration ttl,
+                            @Value("${board.cache.negative-ttl:30s}") Duration negativeTtl) {
+        long ttlNanos = ttl.toNanos();
+        long negativeTtlNanos = negativeTtl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new Expiry<Long, Optional<BoardDto>>() {
+                    @Override
+                    public long expireAfterCreate(Long id, Optional<BoardDto> value, long currentTime) {
+                        return value.isPresent() ? ttlNanos : negativeTtlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(Long id, Optional<BoardDto> value, long currentTime, long currentDuration) {
+                        return expireAfterCreate(id, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(Long id, Optional<BoardDto> value, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "boardDetail");
+    }
+
+    // 캐시에 없으면 loader 로 읽어서 채웁니다. 같은 ID 동시 요청은 한 번만 로드합니다.
+    public Optional<BoardDto> get(Long id, Function<Long, Optional<BoardDto>> loader) {
+        return cache.get(id, loader);
+    }
+
+    public void invalidate(Long id) {
+        cache.invalidate(id);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+}
@@ -0,0 +1,37 @@
+package com.itnetwork.club_community.domain.board;
+
+import com.itnetwork.club_community.domain.comment.CommentResponseDto;
+
+import java.util.List;
+
+// 게시글 상세 + 첫 댓글 페이지 (상세 화면을 요청 한 번으로 그리기 위한 응답)
+public class BoardDetailResponse {
+
+    private final BoardDto board;
+    private final List<CommentResponseDto> comments;
+    private final boolean hasMoreComments;
+
+    public BoardDetailResponse(BoardDto board, List<CommentResponseDto> comments, boolean hasMoreComments) {
+        this.board = board;
+        this.comments = comments;
+        this.hasMoreComments = hasMoreComments;
+    }
+
+    // 한 건 더 조회한 댓글 목록으로 다음 댓글 존재 여부를 판단
+    public static BoardDetailResponse of(BoardDto board, List<CommentResponseDto> rows, int limit) {
+        boolean hasMore = rows.size() > limit;
+        return new BoardDetailResponse(board, hasMore ? List.copyOf(rows.subList(0, limit)) : rows, hasMore);
+    }
+
+    public BoardDto getBoard() {
+        return board;
+    }
+
+    public List<CommentResponseDto> getComments() {
+        return comments;
+    }
+
+    public boolean isHasMoreComments() {
+        return hasMoreComments;
+    }
+}
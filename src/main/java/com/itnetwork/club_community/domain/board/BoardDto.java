@@ -8,12 +8,14 @@ public class BoardDto {
     private final String title;
     private final String content;
     private final LocalDateTime createdAt;
+    private final long views;
 
-    public BoardDto(Long id, String title, String content, LocalDateTime createdAt) {
+    public BoardDto(Long id, String title, String content, LocalDateTime createdAt, long views) {
         this.id = id;
         this.title = title;
         this.content = content;
         this.createdAt = createdAt;
+        this.views = views;
     }
 
     public static BoardDto from(Board board) {
@@ -21,10 +23,16 @@ public class BoardDto {
                 board.getId(),
                 board.getTitle(),
                 board.getContent(),
-                board.getCreatedAt()
+                board.getCreatedAt(),
+                board.getViews()
         );
     }
 
+    // 조회수만 바꾼 복사본 (DB 값 + 아직 반영되지 않은 조회수)
+    public BoardDto withViews(long views) {
+        return new BoardDto(id, title, content, createdAt, views);
+    }
+
     public Long getId() {
         return id;
     }
@@ -40,4 +48,8 @@ public class BoardDto {
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
+
+    public long getViews() {
+        return views;
+    }
 }
@@ -4,31 +4,44 @@ import java.util.List;
 
 public class BoardListResponse {
 
-    private final List<BoardDto> items;
-    private final long total;
-    private final int page;
+    private final List<BoardSummaryDto> items;
+    private final Long total; // withTotal=false 이면 null
+    private final Integer page; // cursor 조회이면 null (키셋 조회에는 페이지 번호가 없음)
     private final int size;
+    private final boolean hasNext;
+    private final String nextCursor; // 다음 페이지 커서 (마지막 페이지면 null)
 
-    public BoardListResponse(List<BoardDto> items, long total, int page, int size) {
+    public BoardListResponse(List<BoardSummaryDto> items, Long total, Integer page, int size,
+                             boolean hasNext, String nextCursor) {
         this.items = items;
         this.total = total;
         this.page = page;
         this.size = size;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
     }
 
-    public List<BoardDto> getItems() {
+    public List<BoardSummaryDto> getItems() {
         return items;
     }
 
-    public long getTotal() {
+    public Long getTotal() {
         return total;
     }
 
-    public int getPage() {
+    public Integer getPage() {
         return page;
     }
 
     public int getSize() {
         return size;
     }
+
+    public boolean isHasNext() {
+        return hasNext;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
 }
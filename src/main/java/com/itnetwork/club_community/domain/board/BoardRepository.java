@@ -1,9 +1,59 @@
 package com.itnetwork.club_community.domain.board;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 
 @Repository //DB 접근 담당
 public interface BoardRepository extends JpaRepository<Board, Long> {
     // JpaRepository 상속으로 CRUD 기능 자동 생성
-}
\ No newline at end of file
+
+    // 목록 조회용 요약 프로젝션 (본문은 앞부분만 잘라서 가져옴)
+    String SUMMARY_SELECT = "select new com.itnetwork.club_community.domain.board.BoardSummaryDto("
+            + "b.id, b.title, b.createdAt, substring(b.content, 1, " + BoardSummaryDto.EXCERPT_LENGTH + "),"
+            + " b.commentCount)"
+            + " from Board b";
+
+    // 최신순 오프셋 페이지 조회 (LIMIT/OFFSET 을 DB에서 처리)
+    @Query(SUMMARY_SELECT + " order by b.createdAt desc, b.id desc limit :limit offset :offset")
+    List<BoardSummaryDto> findLatest(@Param("offset") int offset, @Param("limit") int limit);
+
+    // 키셋 페이지 조회: 커서(createdAt, id)보다 오래된 게시글을 최신순으로 조회
+    @Query(SUMMARY_SELECT
+            + " where b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id)"
+            + " order by b.createdAt desc, b.id desc limit :limit")
+    List<BoardSummaryDto> findOlderThan(@Param("createdAt") LocalDateTime createdAt,
+                                        @Param("id") Long id,
+                                        @Param("limit") int limit);
+
+    // 지정한 ID 목록의 요약 조회 (검색 결과 표시용, 순서는 보장하지 않음)
+    @Query(SUMMARY_SELECT + " where b.id in :ids")
+    List<BoardSummaryDto> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // ID 순으로 끊어 읽기 (검색 색인 재구성용)
+    List<Board> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    // 댓글 수 증감 (한 문장으로 원자적으로 처리, 게시글이 없으면 0 반환)
+    @Modifying
+    @Query("update Board b set b.commentCount = b.commentCount + :delta where b.id = :id")
+    int addCommentCount(@Param("id") Long id, @Param("delta") long delta);
+
+    // (fromId, toId] 구간 게시글의 댓글 수를 실제 댓글 수로 다시 맞춤 (어긋난 행만 갱신)
+    @Transactional
+    @Modifying
+    @Query("update Board b set b.commentCount = (select count(c) from Comment c where c.post.id = b.id)"
+            + " where b.id > :fromId and b.id <= :toId"
+            + " and b.commentCount <> (select count(c) from Comment c where c.post.id = b.id)")
+    int repairCommentCounts(@Param("fromId") Long fromId, @Param("toId") Long toId);
+
+    @Query("select coalesce(max(b.id), 0) from Board b")
+    long findMaxId();
+}
@@ -1,7 +1,10 @@
 package com.itnetwork.club_community.domain.board;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -10,36 +13,92 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/boards")
 public class BoardRestController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_SEARCH_LIMIT = 50;
+    private static final int FIRST_COMMENT_PAGE = 50;
+
     private final BoardService boardService;
+    private final BoardVersions boardVersions;
+    private final BoardBulkImportService boardBulkImportService;
 
-    public BoardRestController(BoardService boardService) {
+    public BoardRestController(BoardService boardService, BoardVersions boardVersions,
+                               BoardBulkImportService boardBulkImportService) {
         this.boardService = boardService;
+        this.boardVersions = boardVersions;
+        this.boardBulkImportService = boardBulkImportService;
     }
 
+    // cursor 가 있으면 키셋 조회, 없으면 page 기준 오프셋 조회
+    // withTotal=false 이면 전체 개수 없이 hasNext 만 돌려줍니다.
     @GetMapping
     public BoardListResponse getBoards(
             @RequestParam(name = "page", defaultValue = "0") int page,
-            @RequestParam(name = "size", defaultValue = "10") int size
+            @RequestParam(name = "size", defaultValue = "10") int size,
+            @RequestParam(name = "cursor", required = false) String cursor,
+            @RequestParam(name = "withTotal", defaultValue = "true") boolean withTotal
+    ) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        boolean keyset = cursor != null && !cursor.isBlank();
+        int pageNumber = Math.max(page, 0);
+        BoardSlice slice = keyset
+                ? boardService.findPageAfter(BoardCursor.decode(cursor), pageSize)
+                : boardService.findPage(pageNumber, pageSize);
+        Long total = withTotal ? boardService.count() : null;
+        // 커서 조회에서는 page 를 돌려주지 않음 (두 방식을 섞어 쓰지 않도록)
+        return new BoardListResponse(slice.getItems(), total, keyset ? null : pageNumber, pageSize,
+                slice.hasNext(), slice.nextCursor());
+    }
+
+    // 제목/본문/댓글 검색 (관련도 순)
+    @GetMapping("/search")
+    public List<BoardSummaryDto> search(
+            @RequestParam(name = "q") String query,
+            @RequestParam(name = "limit", defaultValue = "20") int limit
     ) {
-        List<Board> items = boardService.findPage(page, size);
-        long total = boardService.count();
-        List<BoardDto> dtoItems = items.stream()
-                .map(BoardDto::from)
-                .collect(Collectors.toList());
-        return new BoardListResponse(dtoItems, total, page, size);
+        return boardService.search(query, Math.min(Math.max(limit, 1), MAX_SEARCH_LIMIT));
     }
 
+    // If-None-Match 가 현재 ETag 와 같으면 DB 조회나 직렬화 없이 304 를 돌려줍니다.
+    // 조회수는 ETag 에 넣지 않으므로 304 응답에서는 이전에 받은 조회수가 그대로 보일 수 있습니다.
     @GetMapping("/{id}")
-    public BoardDto getBoard(@PathVariable Long id) {
-        return BoardDto.from(boardService.findById(id));
+    public ResponseEntity<BoardDto> getBoard(@PathVariable Long id, WebRequest request) {
+        String etag = boardVersions.boardTag(id); // 데이터를 읽기 전에 버전을 먼저 확인
+        if (request.checkNotModified(etag)) {
+            boardService.recordViewIfExists(id); // 존재하는 게시글만 집계
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        BoardDto board = boardService.findDetail(id);
+        boardService.recordView(id); // 존재하는 게시글만 집계
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(board);
+    }
+
+    // 게시글 + 첫 댓글 페이지를 한 번에 조회 (상세 화면용)
+    // ETag 는 게시글 버전과 댓글 버전을 모두 담고 있어서 어느 쪽이 바뀌어도 다시 내려갑니다.
+    @GetMapping(value = "/{id}", params = "include=comments")
+    public ResponseEntity<BoardDetailResponse> getBoardWithComments(@PathVariable Long id, WebRequest request) {
+        String etag = boardVersions.detailTag(id);
+        if (request.checkNotModified(etag)) {
+            boardService.recordViewIfExists(id); // 존재하는 게시글만 집계
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        BoardDetailResponse detail = boardService.findDetailWithComments(id, FIRST_COMMENT_PAGE);
+        boardService.recordView(id);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(detail);
     }
 
     @PostMapping
@@ -47,4 +106,10 @@ public class BoardRestController {
         Board board = boardService.create(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(BoardDto.from(board));
     }
+
+    // 일괄 등록: JSON 배열 또는 NDJSON 을 스트리밍으로 읽어서 항목별 결과를 돌려줍니다. (관리자 전용, SecurityConfig)
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public BoardBulkImportResponse bulkImport(HttpServletRequest request) throws IOException {
+        return boardBulkImportService.importFrom(request.getInputStream());
+    }
 }
@@ -0,0 +1,31 @@
+package com.itnetwork.club_community.domain.board;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// board_seq 시퀀스를 기존 게시글 ID보다 앞서도록 맞춰주는 초기화 컴포넌트
+// 예전에는 AUTO_INCREMENT 로 ID를 만들었기 때문에, 새로 생긴 시퀀스가 1부터 시작하면 기존 ID와 겹칩니다.
+// MariaDB 의 SETVAL 은 현재 값보다 작은 값으로는 되돌리지 않으므로 매 기동 시 실행해도 안전합니다.
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // 스키마 자동 갱신(시퀀스 생성)이 끝난 뒤 실행
+public class BoardSequenceInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoardSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void alignSequence() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM board", Long.class);
+        long target = (maxId == null ? 0L : maxId) + Board.ID_ALLOCATION_SIZE;
+        // 숫자 리터럴만 허용되므로 바인딩 대신 직접 넣습니다 (DB에서 읽은 정수값)
+        jdbcTemplate.execute("SELECT SETVAL(board_seq, " + target + ")");
+        log.info("board_seq 시퀀스 정렬 완료 (기존 최대 ID: {})", maxId);
+    }
+}
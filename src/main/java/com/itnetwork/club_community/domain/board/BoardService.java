@@ -1,18 +1,41 @@
 package com.itnetwork.club_community.domain.board;
 
+import com.itnetwork.club_community.common.AfterCommit;
+import com.itnetwork.club_community.domain.comment.CommentService;
+import com.itnetwork.club_community.domain.search.SearchService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
-import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service //비즈니스 로직 담당
 @Transactional(readOnly = true) // 기본 읽기 전용
 public class BoardService {
 
     private final BoardRepository boardRepository;
+    private final BoardCounter boardCounter;
+    private final SearchService searchService;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardVersions boardVersions;
+    private final BoardViewCounter boardViewCounter;
+    private final CommentService commentService;
 
-    public BoardService(BoardRepository boardRepository) {
+    public BoardService(BoardRepository boardRepository, BoardCounter boardCounter,
+                        SearchService searchService, BoardDetailCache boardDetailCache,
+                        BoardVersions boardVersions, BoardViewCounter boardViewCounter,
+                        CommentService commentService) {
         this.boardRepository = boardRepository;
+        this.boardCounter = boardCounter;
+        this.searchService = searchService;
+        this.boardDetailCache = boardDetailCache;
+        this.boardVersions = boardVersions;
+        this.boardViewCounter = boardViewCounter;
+        this.commentService = commentService;
     }
 
     @Transactional // 저장 로직
@@ -26,22 +49,59 @@ public class BoardService {
     }
 
     private Board createBoard(String title, String content) {
-        Board board = new Board(title, content);
-        return boardRepository.save(board);
+        Board board = boardRepository.save(new Board(title, content));
+        AfterCommit.run(() -> { // 커밋된 글만 전체 수와 검색 색인에 반영
+            boardCounter.increment();
+            onCreated(board);
+        });
+        return board;
+    }
+
+    // 여러 게시글을 한 트랜잭션에서 저장 (INSERT 는 커밋 시점에 JDBC 배치로 묶여서 실행)
+    @Transactional
+    public List<Board> createAll(List<BoardCreateRequest> requests) {
+        List<Board> boards = boardRepository.saveAll(requests.stream()
+                .map(request -> new Board(request.getTitle(), request.getContent()))
+                .collect(Collectors.toList()));
+        AfterCommit.run(() -> {
+            boardCounter.add(boards.size());
+            boards.forEach(this::onCreated);
+        });
+        return boards;
+    }
+
+    private void onCreated(Board board) {
+        searchService.indexBoard(board);
+        boardDetailCache.invalidate(board.getId()); // "없음"으로 캐시된 ID일 수 있으므로 제거
+        boardVersions.bumpBoard(board.getId());
     }
 
     public List<Board> findAll() { // 조회 로직
         return boardRepository.findAll();
     }
 
-    // 최근 게시글 기준 페이지네이션 조회 (createdAt 내림차순)
-    public List<Board> findPage(int page, int size) {
-        List<Board> all = boardRepository.findAll();
-        all.sort(Comparator.comparing(Board::getCreatedAt).reversed());
-        int from = Math.max(0, page * size);
-        int to = Math.min(all.size(), from + size);
-        if (from >= all.size()) return List.of();
-        return all.subList(from, to);
+    // 최근 게시글 기준 페이지네이션 조회 (createdAt 내림차순, DB에서 LIMIT/OFFSET)
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회합니다.
+    public BoardSlice findPage(int page, int size) {
+        int offset = (int) Math.min((long) page * size, Integer.MAX_VALUE);
+        return BoardSlice.of(boardRepository.findLatest(offset, size + 1), size);
+    }
+
+    // 커서 기준 다음 페이지 조회 (createdAt, id 키셋)
+    public BoardSlice findPageAfter(BoardCursor cursor, int size) {
+        return BoardSlice.of(boardRepository.findOlderThan(cursor.getCreatedAt(), cursor.getId(), size + 1), size);
+    }
+
+    // 검색 색인에서 관련도 순으로 찾은 게시글 요약 목록
+    public List<BoardSummaryDto> search(String query, int limit) {
+        List<Long> ids = searchService.search(query, limit);
+        if (ids.isEmpty()) return List.of();
+        Map<Long, BoardSummaryDto> found = boardRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(BoardSummaryDto::getId, Function.identity()));
+        return ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
     }
 
     public Board findById(Long id) {
@@ -49,8 +109,44 @@ public class BoardService {
                 .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
     }
 
-    // 전체 게시글 수 반환
+    // 상세 조회 (캐시 우선, 캐시 적중 시에는 트랜잭션/커넥션을 열지 않음)
+    // 조회수는 DB 값에 아직 반영되지 않은 조회수를 더해서 돌려줍니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public BoardDto findDetail(Long id) {
+        BoardDto board = cachedDetail(id)
+                .orElseThrow(() -> new IllegalArgumentException("게시글을 찾을 수 없습니다."));
+        return board.withViews(board.getViews() + boardViewCounter.pending(id));
+    }
+
+    // 캐시를 거친 상세 조회 (없는 게시글도 negative-ttl 동안 캐시되어 반복 조회가 DB까지 가지 않음)
+    private Optional<BoardDto> cachedDetail(Long id) {
+        return boardDetailCache.get(id, key -> boardRepository.findById(key).map(BoardDto::from));
+    }
+
+    // 상세 + 첫 댓글 페이지를 한 트랜잭션에서 조회 (게시글 캐시 미스 시 쿼리 2회, 적중 시 1회)
+    public BoardDetailResponse findDetailWithComments(Long id, int commentLimit) {
+        BoardDto board = findDetail(id);
+        return BoardDetailResponse.of(board, commentService.getFirstComments(id, commentLimit), commentLimit);
+    }
+
+    // 조회수 1 증가 (DB에는 BoardViewCounter 가 주기적으로 모아서 반영)
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordView(Long id) {
+        boardViewCounter.increment(id);
+    }
+
+    // 본문을 읽지 않은 조회(304 응답)용: 존재하는 게시글일 때만 조회수 1 증가
+    // ETag 는 추측할 수 있으므로, 없는 ID 로 보낸 If-None-Match 가 조회수 항목을 만들지 않도록 캐시로 존재를 확인합니다.
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public void recordViewIfExists(Long id) {
+        if (cachedDetail(id).isPresent()) {
+            boardViewCounter.increment(id);
+        }
+    }
+
+    // 전체 게시글 수 반환 (메모리 카운터, 주기적으로 DB와 재집계)
+    @Transactional(propagation = Propagation.SUPPORTS)
     public long count() {
-        return boardRepository.count();
+        return boardCounter.get();
     }
 }
@@ -0,0 +1,39 @@
+package com.itnetwork.club_community.domain.board;
+
+import java.util.List;
+
+// 목록 조회 결과 한 구간 (요청 크기 + 1 건을 조회해서 다음 페이지 여부를 판단)
+public class BoardSlice {
+
+    private final List<BoardSummaryDto> items;
+    private final boolean hasNext;
+
+    private BoardSlice(List<BoardSummaryDto> items, boolean hasNext) {
+        this.items = items;
+        this.hasNext = hasNext;
+    }
+
+    public static BoardSlice of(List<BoardSummaryDto> rows, int size) {
+        if (rows.size() > size) {
+            return new BoardSlice(rows.subList(0, size), true);
+        }
+        return new BoardSlice(rows, false);
+    }
+
+    public List<BoardSummaryDto> getItems() {
+        return items;
+    }
+
+    public boolean hasNext() {
+        return hasNext;
+    }
+
+    // 다음 페이지가 있을 때만 마지막 게시글 기준 커서를 돌려줍니다.
+    public String nextCursor() {
+        if (!hasNext) {
+            return null;
+        }
+        BoardSummaryDto last = items.get(items.size() - 1);
+        return BoardCursor.of(last.getCreatedAt(), last.getId()).encode();
+    }
+}
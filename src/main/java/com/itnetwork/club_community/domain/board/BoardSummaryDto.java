@@ -0,0 +1,44 @@
+package com.itnetwork.club_community.domain.board;
+
+import java.time.LocalDateTime;
+
+// 목록 화면용 게시글 요약 (본문 전체 대신 앞부분 일부만 전달)
+// BoardRepository 에서 생성자 표현식으로 바로 조회하므로 Board 엔티티를 만들지 않습니다.
+public class BoardSummaryDto {
+
+    public static final int EXCERPT_LENGTH = 100; // 요약 글자 수
+
+    private final Long id;
+    private final String title;
+    private final LocalDateTime createdAt;
+    private final String excerpt;
+    private final long commentCount;
+
+    public BoardSummaryDto(Long id, String title, LocalDateTime createdAt, String excerpt, long commentCount) {
+        this.id = id;
+        this.title = title;
+        this.createdAt = createdAt;
+        this.excerpt = excerpt;
+        this.commentCount = commentCount;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public String getExcerpt() {
+        return excerpt;
+    }
+
+    public long getCommentCount() {
+        return commentCount;
+    }
+}
@@ -0,0 +1,64 @@
+package com.itnetwork.club_community.domain.board;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 게시글별 버전 번호 (ETag 생성용)
+// 게시글이 바뀌면 board 버전, 댓글이 추가/수정/삭제되면 comment 버전을 올립니다.
+// 버전은 메모리에만 두고 서버 시작 시각(epoch)을 ETag 에 섞어서, 재시작 후에는 이전 ETag 가 모두 무효가 되도록 합니다.
+@Component
+public class BoardVersions {
+
+    private final String epoch = Long.toString(System.currentTimeMillis(), 36);
+    private final Map<Long, AtomicLong> boardVersions = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> commentVersions = new ConcurrentHashMap<>();
+
+    public void bumpBoard(Long boardId) {
+        boardVersions.computeIfAbsent(boardId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    // 올라간 새 버전을 반환합니다. (이전 버전으로 캐시된 항목 정리용)
+    public long bumpComments(Long boardId) {
+        return commentVersions.computeIfAbsent(boardId, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    public long boardVersion(Long boardId) {
+        return current(boardVersions, boardId);
+    }
+
+    public long commentVersion(Long boardId) {
+        return current(commentVersions, boardId);
+    }
+
+    // 게시글 상세 응답의 ETag
+    public String boardTag(Long boardId) {
+        return quote("b" + boardId + "-" + boardVersion(boardId));
+    }
+
+    // 게시글 댓글 목록 응답의 ETag
+    public String commentsTag(Long boardId) {
+        return quote("c" + boardId + "-" + commentVersion(boardId));
+    }
+
+    // 댓글 트리 응답의 ETag (rootId 별로 응답이 다르므로 함께 포함)
+    public String threadTag(Long boardId, Long rootId) {
+        return quote("t" + boardId + "-" + (rootId == null ? "all" : rootId) + "-" + commentVersion(boardId));
+    }
+
+    // 게시글 + 댓글 묶음 응답의 ETag (둘 중 하나만 바뀌어도 달라짐)
+    public String detailTag(Long boardId) {
+        return quote("d" + boardId + "-" + boardVersion(boardId) + "-" + commentVersion(boardId));
+    }
+
+    private String quote(String value) {
+        return "\"" + epoch + "-" + value + "\"";
+    }
+
+    private static long current(Map<Long, AtomicLong> versions, Long boardId) {
+        AtomicLong version = versions.get(boardId); // 조회만 할 때는 항목을 만들지 않음
+        return version == null ? 0L : version.get();
+    }
+}
@@ -0,0 +1,110 @@
+package com.itnetwork.club_community.domain.board;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.BatchUpdateException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 write-behind 카운터
+// 조회할 때마다 UPDATE 하지 않고 게시글별 LongAdder(스트라이프 카운터)에 모았다가,
+// 일정 주기마다 "views = views + ?" 배치 UPDATE 로 한 번에 반영합니다.
+// 정상 종료 시에는 남은 값을 모두 반영하고, 비정상 종료 시에는 최대 한 주기 분량만 유실됩니다.
+@Slf4j
+@Component
+public class BoardViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE board SET views = views + ? WHERE id = ?";
+
+    private final Map<Long, LongAdder> pending = new ConcurrentHashMap<>();
+    private final JdbcTemplate jdbcTemplate;
+    private final BoardDetailCache boardDetailCache;
+
+    public BoardViewCounter(JdbcTemplate jdbcTemplate, BoardDetailCache boardDetailCache) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.boardDetailCache = boardDetailCache;
+    }
+
+    public void increment(Long boardId) {
+        pending.computeIfAbsent(boardId, id -> new LongAdder()).increment();
+    }
+
+    // 아직 DB에 반영되지 않은 조회수
+    public long pending(Long boardId) {
+        LongAdder adder = pending.get(boardId);
+        return adder == null ? 0L : adder.sum();
+    }
+
+    // 현재 값을 읽어두고(스냅샷) DB 반영이 끝난 행만 그만큼 뺍니다.
+    // 반영 전에 0으로 돌리면 그 사이 상세 조회가 "캐시의 DB 값 + 0" 을 보여줘서 조회수가 줄어 보이기 때문입니다.
+    @Scheduled(fixedDelayString = "${board.views.flush-interval-ms:10000}")
+    public synchronized void flush() {
+        List<Long> ids = new ArrayList<>();
+        List<Object[]> batch = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pending.entrySet()) {
+            long delta = entry.getValue().sum();
+            if (delta > 0) {
+                ids.add(entry.getKey());
+                batch.add(new Object[]{delta, entry.getKey()});
+            } else {
+                // 한 주기 동안 조회가 없던 항목은 정리 (제거 직전 증가분이 드물게 빠질 수 있음)
+                pending.remove(entry.getKey(), entry.getValue());
+            }
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        boolean[] applied = new boolean[batch.size()];
+        try {
+            jdbcTemplate.batchUpdate(FLUSH_SQL, batch);
+            Arrays.fill(applied, true);
+        } catch (DataAccessException e) {
+            // 배치 일부만 반영됐을 수 있으므로 행별 결과로 판단하고, 반영되지 않은 값은 남겨두고 다음 주기에 재시도
+            markApplied(e, applied);
+            log.warn("조회수 반영 실패, 다음 주기에 재시도합니다: {}", e.getMessage());
+        }
+
+        for (int i = 0; i < applied.length; i++) {
+            if (!applied[i]) {
+                continue;
+            }
+            Long id = ids.get(i);
+            long delta = (Long) batch.get(i)[0];
+            // 캐시의 DB 조회수를 먼저 버리고 반영한 만큼 뺌 (순서가 반대면 잠깐 줄어 보임)
+            boardDetailCache.invalidate(id);
+            LongAdder adder = pending.get(id);
+            if (adder != null) {
+                adder.add(-delta);
+            }
+        }
+    }
+
+    // BatchUpdateException 의 행별 결과로 반영된 행을 표시 (정보가 없으면 모두 미반영으로 봄)
+    private static void markApplied(DataAccessException e, boolean[] applied) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof BatchUpdateException batchException) {
+                int[] counts = batchException.getUpdateCounts();
+                for (int i = 0; i < counts.length && i < applied.length; i++) {
+                    applied[i] = counts[i] != Statement.EXECUTE_FAILED;
+                }
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
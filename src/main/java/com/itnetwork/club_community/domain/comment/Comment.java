@@ -5,6 +5,7 @@ import com.itnetwork.club_community.domain.board.Board;
 import com.itnetwork.club_community.domain.user.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -19,7 +20,12 @@ import java.time.LocalDateTime;
  * - 내용(content), 등록일(reg_date), 수정일(upd_date)을 관리합니다.
  */
 @Entity
-@Table(name = "comment_tbl")
+@Table(name = "comment_tbl",
+        indexes = {
+                @Index(name = "idx_comment_post_id_id", columnList = "POST_ID, ID"), // 게시글별 키셋 페이지 조회용
+                @Index(name = "idx_comment_user_id_id", columnList = "USER_ID, ID"), // 사용자별(내 댓글) 키셋 페이지 조회용
+                @Index(name = "idx_comment_post_id_path", columnList = "POST_ID, PATH") // 스레드/하위 트리 범위 조회용
+        })
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -27,6 +33,16 @@ import java.time.LocalDateTime;
 @Builder
 public class Comment {
 
+    /**
+     * 경로(PATH)의 한 구간 길이: 댓글 ID를 0으로 채운 10자리 숫자
+     */
+    public static final int PATH_SEGMENT_WIDTH = 10;
+
+    /**
+     * 답글 최대 깊이 (최상위 댓글이 0)
+     */
+    public static final int MAX_DEPTH = 20;
+
     /**
      * 댓글 고유 번호 (PK, 자동 증가)
      */
@@ -79,6 +95,37 @@ public class Comment {
     @JsonBackReference("post-comments")
     private Board post;
 
+    /**
+     * 부모 댓글 ID (최상위 댓글이면 null)
+     */
+    @Column(name = "PARENT_ID")
+    private Long parentId;
+
+    /**
+     * 답글 깊이 (최상위 댓글 0, 답글 1, 답글의 답글 2 ...)
+     */
+    @ColumnDefault("0")
+    @Column(name = "DEPTH", nullable = false)
+    private int depth;
+
+    /**
+     * 구체화 경로(materialized path): 최상위 댓글부터 자신까지의 ID를 10자리씩 이어 붙인 문자열
+     *
+     * - 예) 12번 댓글의 답글 15번 → "0000000012" + "0000000015"
+     * - (POST_ID, PATH) 순서로 읽으면 스레드 전체가 트리 순서(부모 다음에 자식, 형제는 ID 순)로 나오고,
+     *   특정 댓글의 하위 트리는 PATH LIKE '부모경로%' 범위 조회 한 번으로 가져올 수 있습니다.
+     * - ID가 INSERT 후에 정해지므로 저장 직후 같은 트랜잭션에서 채웁니다.
+     */
+    @Column(name = "PATH", length = PATH_SEGMENT_WIDTH * (MAX_DEPTH + 1))
+    private String path;
+
+    /**
+     * 댓글 ID로 경로 한 구간을 만듭니다.
+     */
+    public static String pathSegment(Long id) {
+        return String.format("%0" + PATH_SEGMENT_WIDTH + "d", id);
+    }
+
     /**
      * 댓글 내용 수정 메서드
      */
@@ -1,9 +1,17 @@
 package com.itnetwork.club_community.domain.comment;
 
+import com.itnetwork.club_community.domain.auth.JwtPrincipal;
+import com.itnetwork.club_community.domain.board.BoardVersions;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -14,23 +22,99 @@ import java.util.List;
  * - 댓글 수정
  * - 댓글 삭제
  * - 게시글별 댓글 목록 조회
+ * - 게시글별 댓글 트리(답글 스레드) 조회
+ * - 게시글별 댓글 실시간 스트림(SSE)
  */
+@Slf4j
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/comments")
 public class CommentController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentService commentService;
+    private final BoardVersions boardVersions;
+    private final CommentEventHub commentEventHub;
 
     /**
-     * 특정 게시글의 댓글 목록 조회
+     * 특정 게시글의 댓글 목록 조회 (댓글이 적은 게시글만, 많으면 400)
+     * 댓글이 바뀌지 않았다면(If-None-Match 일치) DB 조회 없이 304 를 반환합니다.
      *
      * GET /api/comments?postId=1
      */
     @GetMapping
-    public ResponseEntity<List<CommentResponseDto>> getComments(@RequestParam("postId") Long postId) {
+    public ResponseEntity<List<CommentResponseDto>> getComments(@RequestParam("postId") Long postId,
+                                                                WebRequest request) {
+        String etag = boardVersions.commentsTag(postId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         List<CommentResponseDto> comments = commentService.getCommentsByPost(postId);
-        return ResponseEntity.ok(comments);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(comments);
+    }
+
+    /**
+     * 특정 게시글의 댓글 키셋 페이지 조회 (limit 파라미터가 있으면 이 메서드로 처리)
+     * 응답은 항상 ID 오름차순이며, nextCursor 를 같은 파라미터(after/before)로 넘기면 이어서 조회합니다.
+     *
+     * GET /api/comments?postId=1&limit=50
+     * GET /api/comments?postId=1&after=120&limit=50
+     * GET /api/comments?postId=1&before=120&limit=50
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<CommentPageResponse> getCommentPage(@RequestParam("postId") Long postId,
+                                                              @RequestParam(value = "after", required = false) Long after,
+                                                              @RequestParam(value = "before", required = false) Long before,
+                                                              @RequestParam("limit") int limit,
+                                                              WebRequest request) {
+        String etag = boardVersions.commentsTag(postId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        CommentPageResponse page = commentService.getCommentPage(postId, after, before, pageSize);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(page);
+    }
+
+    /**
+     * 특정 게시글의 댓글을 답글 트리 형태로 조회 (rootId 가 있으면 그 댓글의 하위 트리만)
+     *
+     * GET /api/comments/tree?postId=1
+     * GET /api/comments/tree?postId=1&rootId=12
+     */
+    @GetMapping("/tree")
+    public ResponseEntity<List<CommentResponseDto>> getThread(@RequestParam("postId") Long postId,
+                                                              @RequestParam(value = "rootId", required = false) Long rootId,
+                                                              WebRequest request) {
+        String etag = boardVersions.threadTag(postId, rootId);
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .body(commentService.getThread(postId, rootId));
+    }
+
+    /**
+     * 특정 게시글의 댓글 실시간 스트림 (Server-Sent Events)
+     * 댓글이 작성/수정/삭제되면 created / updated / deleted 이벤트로 변경된 댓글만 보내줍니다.
+     *
+     * GET /api/comments/stream?postId=1
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(@RequestParam("postId") Long postId) {
+        return commentEventHub.subscribe(postId);
     }
 
     /**
@@ -38,16 +122,17 @@ public class CommentController {
      *
      * POST /api/comments
      * body: { "postId": 1, "content": "댓글 내용" }
+     * 답글: { "postId": 1, "parentId": 12, "content": "답글 내용" }
      */
     @PostMapping
     public ResponseEntity<Void> createComment(@RequestBody CommentCreateDto dto,
-                                              @AuthenticationPrincipal String email) {
+                                              @AuthenticationPrincipal JwtPrincipal principal) {
 
-        // JwtAuthFilter 에서 principal 로 email(String)을 넣었기 때문에
-        // 여기서 String 으로 바로 받는다.
-        System.out.println(">>> [DEBUG] createComment email = " + email);
+        // JwtAuthFilter 에서 토큰 클레임으로 만든 JwtPrincipal 을 넣었기 때문에
+        // 여기서 uid 를 바로 꺼내 쓴다. (사용자 DB 조회 없음)
+        log.debug("createComment uid={}", uidOf(principal));
 
-        commentService.createComment(dto, email);
+        commentService.createComment(dto, uidOf(principal));
         return ResponseEntity.ok().build();
     }
 
@@ -60,11 +145,11 @@ public class CommentController {
     @PatchMapping("/{commentId}")
     public ResponseEntity<Void> updateComment(@PathVariable Long commentId,
                                               @RequestBody CommentUpdateDto dto,
-                                              @AuthenticationPrincipal String email) {
+                                              @AuthenticationPrincipal JwtPrincipal principal) {
 
-        System.out.println(">>> [DEBUG] updateComment email = " + email);
+        log.debug("updateComment uid={}", uidOf(principal));
 
-        commentService.updateComment(commentId, dto, email);
+        commentService.updateComment(commentId, dto, uidOf(principal));
         return ResponseEntity.ok().build();
     }
 
@@ -75,11 +160,16 @@ public class CommentController {
      */
     @DeleteMapping("/{commentId}")
     public ResponseEntity<Void> deleteComment(@PathVariable Long commentId,
-                                              @AuthenticationPrincipal String email) {
+                                              @AuthenticationPrincipal JwtPrincipal principal) {
 
-        System.out.println(">>> [DEBUG] deleteComment email = " + email);
+        log.debug("deleteComment uid={}", uidOf(principal));
 
-        commentService.deleteComment(commentId, email);
+        commentService.deleteComment(commentId, uidOf(principal));
         return ResponseEntity.ok().build();
     }
+
+    // 로그인하지 않은 요청이면 null (서비스에서 401 처리)
+    private static Long uidOf(JwtPrincipal principal) {
+        return principal == null ? null : principal.getUid();
+    }
 }
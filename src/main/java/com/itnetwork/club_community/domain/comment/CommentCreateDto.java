@@ -9,7 +9,7 @@ import lombok.Setter;
  * - 어떤 게시글(postId)에
  * - 어떤 내용(content)을 작성하는지 전달합니다.
  *
- * 작성자는 Controller에서 @AuthenticationPrincipal User 로 처리되므로
+ * 작성자는 Controller에서 @AuthenticationPrincipal JwtPrincipal 로 처리되므로
  * 별도로 writerId 등을 받을 필요가 없습니다.
  */
 @Getter
@@ -21,4 +21,7 @@ public class CommentCreateDto {
 
     // 댓글 내용
     private String content;
+
+    // 답글을 달 부모 댓글 ID (최상위 댓글이면 생략)
+    private Long parentId;
 }
@@ -0,0 +1,25 @@
+package com.itnetwork.club_community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글 실시간 스트림(SSE)으로 보내는 변경 이벤트 Dto
+ *
+ * - type: created / updated / deleted (SSE 이벤트 이름으로도 사용)
+ * - commentId: 변경된 댓글 ID
+ * - comment: 작성/수정된 댓글 (삭제 이벤트에서는 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentEvent {
+
+    public static final String CREATED = "created";
+    public static final String UPDATED = "updated";
+    public static final String DELETED = "deleted";
+
+    private String type;
+    private Long postId;
+    private Long commentId;
+    private CommentResponseDto comment;
+}
@@ -0,0 +1,251 @@
+package com.itnetwork.club_community.domain.comment;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 게시글별 댓글 변경 이벤트를 SSE 구독자에게 나눠주는 허브
+ *
+ * - SseEmitter 는 서블릿 비동기 요청이므로 연결이 열려 있는 동안 요청 스레드를 붙잡지 않습니다.
+ * - 구독자마다 크기가 제한된 대기열을 두고, 발행하는 쪽은 대기열에 넣기만 합니다.
+ *   실제 전송은 작은 전송용 스레드 풀이 구독자별로 한 번에 하나씩 처리합니다.
+ * - 대기열이 가득 찬 구독자(읽는 속도가 느린 클라이언트)는 연결을 끊어서 메모리가 쌓이지 않게 합니다.
+ *   클라이언트(EventSource)는 자동으로 다시 연결하므로 새로 목록을 받아오면 됩니다.
+ * - send 는 소켓 쓰기가 끝날 때까지 막히므로, 한 번의 send 가 send-timeout-ms 를 넘기면 그 구독자를 끊고
+ *   막힌 스레드가 돌아올 때까지 전송 풀에 스레드를 하나 더 둡니다. (느린 소켓 하나가 다른 구독자 전송을 멈추지 않도록)
+ * - 주기적으로 하트비트(SSE 주석 줄)를 보내서 프록시의 유휴 연결 종료를 막고, 끊긴 연결을 정리합니다.
+ */
+@Slf4j
+@Component
+public class CommentEventHub {
+
+    private final Map<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor sender;
+    private final int bufferSize;
+    private final long timeoutMs;
+    private final long sendTimeoutNanos;
+
+    public CommentEventHub(@Value("${comment.stream.buffer-size:32}") int bufferSize,
+                           @Value("${comment.stream.timeout-ms:1800000}") long timeoutMs,
+                           @Value("${comment.stream.sender-threads:2}") int senderThreads,
+                           @Value("${comment.stream.send-timeout-ms:5000}") long sendTimeoutMs) {
+        this.bufferSize = Math.max(bufferSize, 1);
+        this.timeoutMs = timeoutMs;
+        this.sendTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(sendTimeoutMs);
+        int threads = Math.max(senderThreads, 1);
+        this.sender = new ThreadPoolExecutor(threads, threads, 30L, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(), new CustomizableThreadFactory("comment-sse-"));
+    }
+
+    /**
+     * 게시글 댓글 스트림을 구독합니다.
+     */
+    public SseEmitter subscribe(Long postId) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(postId, emitter, bufferSize);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onTimeout(() -> remove(subscriber));
+        emitter.onError(e -> remove(subscriber));
+        subscribers.computeIfAbsent(postId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        // 연결 직후 응답 헤더를 바로 내보내기 위한 첫 이벤트
+        enqueue(subscriber, SseEmitter.event().name("ready").data(postId));
+        return emitter;
+    }
+
+    public boolean hasSubscribers(Long postId) {
+        Set<Subscriber> set = subscribers.get(postId);
+        return set != null && !set.isEmpty();
+    }
+
+    /**
+     * 게시글을 구독 중인 모든 클라이언트에게 이벤트를 보냅니다. (대기열에 넣기만 하고 바로 반환)
+     */
+    public void publish(CommentEvent event) {
+        Set<Subscriber> set = subscribers.get(event.getPostId());
+        if (set == null) {
+            return;
+        }
+        for (Subscriber subscriber : set) {
+            enqueue(subscriber, SseEmitter.event()
+                    .name(event.getType())
+                    .id(String.valueOf(event.getCommentId()))
+                    .data(event, MediaType.APPLICATION_JSON));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${comment.stream.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                enqueue(subscriber, SseEmitter.event().comment("ping"));
+            }
+        }
+    }
+
+    // 한 번의 send 가 send-timeout-ms 를 넘긴 구독자를 끊고, 막힌 스레드 대신 일할 스레드를 풀에 추가
+    @Scheduled(fixedDelayString = "${comment.stream.send-timeout-ms:5000}")
+    public void evictStalledSenders() {
+        long now = System.nanoTime();
+        for (Set<Subscriber> set : subscribers.values()) {
+            for (Subscriber subscriber : set) {
+                boolean stalled;
+                synchronized (subscriber) {
+                    stalled = subscriber.sendStartedAt != 0
+                            && now - subscriber.sendStartedAt > sendTimeoutNanos
+                            && !subscriber.compensated;
+                    if (stalled) {
+                        subscriber.compensated = true;
+                        resizeSender(1);
+                    }
+                }
+                if (stalled) {
+                    log.debug("댓글 스트림 전송이 {}ms 넘게 막혀서 연결을 끊습니다. (postId={})",
+                            TimeUnit.NANOSECONDS.toMillis(sendTimeoutNanos), subscriber.postId);
+                    evict(subscriber);
+                }
+            }
+        }
+    }
+
+    public int subscriberCount() {
+        return subscribers.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void enqueue(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        if (subscriber.evicted) {
+            return;
+        }
+        if (!subscriber.queue.offer(event)) {
+            log.debug("댓글 스트림 구독자 대기열이 가득 차서 연결을 끊습니다. (postId={})", subscriber.postId);
+            evict(subscriber);
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    // 구독자별로 전송 작업이 동시에 하나만 돌도록 보장
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false); // 종료 중
+        }
+    }
+
+    private void drain(Subscriber subscriber) {
+        try {
+            SseEmitter.SseEventBuilder event;
+            while (!subscriber.evicted && (event = subscriber.queue.poll()) != null) {
+                send(subscriber, event);
+            }
+            if (subscriber.evicted) {
+                // send 중인 emitter 를 다른 스레드에서 complete 하면 send 가 끝날 때까지 같이 막히므로 전송 스레드에서 닫음
+                subscriber.emitter.complete();
+                return;
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊었거나 이미 완료된 emitter
+            remove(subscriber);
+            return;
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // 플래그를 내리는 사이에 들어온 이벤트나 연결 끊기 요청이 있으면 다시 예약
+        if (!subscriber.queue.isEmpty() || subscriber.evicted) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    // 전송 시작 시각을 남겨서 evictStalledSenders 가 막힌 send 를 찾을 수 있게 함
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) throws IOException {
+        synchronized (subscriber) {
+            subscriber.sendStartedAt = System.nanoTime();
+        }
+        try {
+            subscriber.emitter.send(event);
+        } finally {
+            synchronized (subscriber) {
+                subscriber.sendStartedAt = 0;
+                if (subscriber.compensated) {
+                    // 막혀 있던 스레드가 돌아왔으므로 대신 늘려둔 스레드를 다시 줄임
+                    subscriber.compensated = false;
+                    resizeSender(-1);
+                }
+            }
+        }
+    }
+
+    // 코어 크기를 먼저 늘리면 최대 크기보다 커질 수 있으므로 늘릴 때는 최대부터, 줄일 때는 코어부터 바꿈
+    private synchronized void resizeSender(int delta) {
+        if (delta > 0) {
+            sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+            sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+        } else {
+            sender.setCorePoolSize(sender.getCorePoolSize() + delta);
+            sender.setMaximumPoolSize(sender.getMaximumPoolSize() + delta);
+        }
+    }
+
+    // 목록에서 빼고 남은 이벤트를 버린 뒤, 실제 종료는 전송 스레드에 맡김 (발행/감시 스레드가 막힌 send 를 기다리지 않도록)
+    private void evict(Subscriber subscriber) {
+        subscriber.evicted = true;
+        remove(subscriber);
+        subscriber.queue.clear();
+        scheduleDrain(subscriber);
+    }
+
+    private void remove(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.postId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(s -> s.emitter.complete()));
+        subscribers.clear();
+    }
+
+    private static final class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        // 진행 중인 send 의 시작 시각 (nanoTime, 전송 중이 아니면 0) / 막혀서 풀에 스레드를 더 둔 상태인지 (this 로 보호)
+        private long sendStartedAt;
+        private boolean compensated;
+        // 연결을 끊기로 한 구독자 (전송 스레드가 emitter 를 닫음)
+        private volatile boolean evicted;
+
+        Subscriber(Long postId, SseEmitter emitter, int bufferSize) {
+            this.postId = postId;
+            this.emitter = emitter;
+            this.queue = new ArrayBlockingQueue<>(bufferSize);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.itnetwork.club_community.domain.comment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.LongFunction;
+
+/**
+ * 게시글별 댓글 목록 캐시 (이미 만들어진 CommentResponseDto 목록을 그대로 보관)
+ *
+ * - 캐시 키는 (게시글 ID, 댓글 버전) 입니다. 댓글이 작성·수정·삭제되면 커밋 직후 BoardVersions 의 댓글 버전이 올라가므로,
+ *   그 뒤의 조회는 항상 새 키로 DB에서 다시 읽습니다. 그래서 방금 작성한 댓글이 빠진 목록은 내려가지 않습니다.
+ *   (버전은 DB를 읽기 전에 확인하므로, 읽는 도중 변경이 있어도 낡은 목록이 새 버전으로 저장되지 않습니다.)
+ * - 메모리 사용량은 댓글 글자 수 기반 추정 바이트로 제한합니다. (comment.cache.max-size)
+ * - 적중률/제거 통계는 cache.* 메트릭(cache=commentList), 추정 사용량은 comment.cache.weighted.bytes 메트릭으로 확인합니다.
+ */
+@Component
+public class CommentListCache {
+
+    private static final int DTO_OVERHEAD_BYTES = 96;  // 객체 헤더, 필드, 날짜 객체 등 대략적인 고정 크기
+    private static final int LIST_OVERHEAD_BYTES = 64;
+
+    private final Cache<Key, List<CommentResponseDto>> cache;
+
+    public CommentListCache(MeterRegistry meterRegistry,
+                            @Value("${comment.cache.max-size:32MB}") DataSize maxSize,
+                            @Value("${comment.cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((Key key, List<CommentResponseDto> comments) -> weigh(comments))
+                .expireAfterAccess(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "commentList");
+        Gauge.builder("comment.cache.weighted.bytes", cache,
+                        c -> c.policy().eviction().flatMap(e -> e.weightedSize()).orElse(0L))
+                .description("댓글 목록 캐시의 추정 메모리 사용량")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("comment.cache.hit.ratio", cache, c -> c.stats().hitRate())
+                .description("댓글 목록 캐시 적중률")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 현재 댓글 버전의 목록을 반환합니다. 없으면 loader 로 읽어서 채웁니다. (같은 키 동시 요청은 한 번만 로드)
+     *
+     * @param postId  게시글 ID
+     * @param version 댓글 버전 (DB를 읽기 전에 확인한 값)
+     * @param loader  게시글 ID로 목록을 읽는 함수
+     */
+    public List<CommentResponseDto> get(Long postId, long version, LongFunction<List<CommentResponseDto>> loader) {
+        return cache.get(new Key(postId, version), key -> List.copyOf(loader.apply(key.postId())));
+    }
+
+    /**
+     * 댓글 버전이 올라간 뒤 이전 버전 항목을 바로 비웁니다. (남아 있어도 조회되지는 않지만 메모리를 빨리 돌려받기 위함)
+     */
+    public void evictBefore(Long postId, long newVersion) {
+        cache.invalidate(new Key(postId, newVersion - 1));
+    }
+
+    private static int weigh(List<CommentResponseDto> comments) {
+        long bytes = LIST_OVERHEAD_BYTES;
+        for (CommentResponseDto comment : comments) {
+            bytes += DTO_OVERHEAD_BYTES
+                    + 2L * (length(comment.getContent()) + length(comment.getWriterId()) + length(comment.getWriterName())
+                    + length(comment.getPath()));
+        }
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private record Key(Long postId, long version) {
+    }
+}
@@ -0,0 +1,22 @@
+package com.itnetwork.club_community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 댓글 키셋 페이지 응답 Dto
+ *
+ * - items: 댓글 목록 (항상 ID 오름차순)
+ * - hasMore: 요청한 방향(after / before)으로 댓글이 더 있는지 여부
+ * - nextCursor: 다음 요청에 같은 파라미터(after 또는 before)로 넘길 댓글 ID (더 없으면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentPageResponse {
+
+    private List<CommentResponseDto> items;
+    private boolean hasMore;
+    private Long nextCursor;
+}
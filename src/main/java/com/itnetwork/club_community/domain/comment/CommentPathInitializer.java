@@ -0,0 +1,31 @@
+package com.itnetwork.club_community.domain.comment;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+// 답글 기능 이전에 작성된 댓글의 PATH 를 채워주는 초기화 컴포넌트
+// 예전 댓글은 모두 최상위 댓글이므로 자기 ID 한 구간이 곧 경로입니다. (DEPTH 는 기본값 0)
+// PATH 가 비어 있는 행만 갱신하므로 매 기동 시 실행해도 안전합니다.
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory") // 스키마 자동 갱신(PATH 컬럼 추가)이 끝난 뒤 실행
+public class CommentPathInitializer {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CommentPathInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void fillMissingPaths() {
+        int updated = jdbcTemplate.update(
+                "UPDATE comment_tbl SET PATH = LPAD(ID, " + Comment.PATH_SEGMENT_WIDTH + ", '0') WHERE PATH IS NULL");
+        if (updated > 0) {
+            log.info("댓글 경로(PATH) 채우기 완료: {}건", updated);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.itnetwork.club_community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 댓글의 트리 내 위치 (답글 작성 시 부모 댓글 확인용)
+ */
+@Getter
+@AllArgsConstructor
+public class CommentPosition {
+
+    private Long postId; // 댓글이 달린 게시글 ID
+    private String path; // 구체화 경로
+    private int depth;   // 답글 깊이
+}
@@ -1,7 +1,13 @@
 package com.itnetwork.club_community.domain.comment;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Comment 엔티티에 대한 데이터베이스 접근을 담당하는 Repository 인터페이스입니다.
@@ -14,6 +20,20 @@ import java.util.List;
  */
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
+    /**
+     * 댓글 응답 DTO 프로젝션 (작성자 정보는 member_tbl 조인으로 함께 조회)
+     */
+    String RESPONSE_SELECT = "select new com.itnetwork.club_community.domain.comment.CommentResponseDto("
+            + "c.id, c.content, c.reg_date, c.upd_date, u.uid, u.user_id, u.user_nm, c.parentId, c.depth, c.path)"
+            + " from Comment c join c.user u";
+
+    /**
+     * 내 댓글 DTO 프로젝션 (댓글이 달린 게시글 제목을 조인으로 함께 조회)
+     */
+    String MY_COMMENT_SELECT = "select new com.itnetwork.club_community.domain.comment.MyCommentDto("
+            + "c.id, c.content, c.reg_date, c.upd_date, b.id, b.title)"
+            + " from Comment c join c.post b";
+
     /**
      * 특정 게시글에 달린 댓글 목록을 ID 오름차순으로 조회합니다.
      *
@@ -39,4 +59,153 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      *    → User 엔티티의 필드명(uid)에 맞춰서 네이밍했습니다.
      */
     List<Comment> findByUserUidOrderByIdDesc(Long uid);
+
+    /**
+     * 지정한 ID보다 큰 댓글을 ID 오름차순으로 일정 개수만 조회합니다.
+     * 검색 색인을 재구성할 때 전체 댓글을 나눠서 읽기 위해 사용합니다.
+     *
+     * @param id       마지막으로 읽은 댓글 ID
+     * @param pageable 읽을 개수
+     * @return 댓글 목록 (ID 오름차순 정렬)
+     */
+    List<Comment> findByIdGreaterThanOrderByIdAsc(Long id, Pageable pageable);
+
+    /**
+     * 게시글의 첫 댓글 limit 건을 응답 DTO 로 조회합니다. (ID 오름차순)
+     * 게시글 상세 + 댓글을 한 번에 내려줄 때 사용합니다.
+     *
+     * member_tbl 을 조인한 생성자 표현식으로 한 번의 SELECT 만 실행하므로,
+     * 댓글마다 작성자(User)를 지연 로딩하는 N+1 쿼리가 생기지 않습니다.
+     *
+     * @param postId 게시글 ID
+     * @param limit  조회할 개수
+     * @return 댓글 응답 목록 (ID 오름차순 정렬)
+     */
+    @Query(RESPONSE_SELECT + " where c.post.id = :postId order by c.id asc limit :limit")
+    List<CommentResponseDto> findFirstResponses(@Param("postId") Long postId, @Param("limit") int limit);
+
+    /**
+     * 키셋 페이지: afterId 보다 뒤(최신)의 댓글을 ID 오름차순으로 limit 건 조회합니다.
+     * (POST_ID, ID) 인덱스 범위 스캔으로 처리되므로 앞쪽 댓글 수와 관계없이 일정한 비용입니다.
+     *
+     * @param postId  게시글 ID
+     * @param afterId 이 ID 보다 큰 댓글부터 조회
+     * @param limit   조회할 개수
+     * @return 댓글 응답 목록 (ID 오름차순 정렬)
+     */
+    @Query(RESPONSE_SELECT + " where c.post.id = :postId and c.id > :afterId order by c.id asc limit :limit")
+    List<CommentResponseDto> findPageAfter(@Param("postId") Long postId,
+                                           @Param("afterId") Long afterId,
+                                           @Param("limit") int limit);
+
+    /**
+     * 키셋 페이지: beforeId 바로 앞(이전)의 댓글을 ID 내림차순으로 limit 건 조회합니다.
+     *
+     * @param postId   게시글 ID
+     * @param beforeId 이 ID 보다 작은 댓글부터 조회
+     * @param limit    조회할 개수
+     * @return 댓글 응답 목록 (ID 내림차순 정렬, 화면에 보여줄 때는 뒤집어서 사용)
+     */
+    @Query(RESPONSE_SELECT + " where c.post.id = :postId and c.id < :beforeId order by c.id desc limit :limit")
+    List<CommentResponseDto> findPageBefore(@Param("postId") Long postId,
+                                            @Param("beforeId") Long beforeId,
+                                            @Param("limit") int limit);
+
+    /**
+     * 댓글이 달린 게시글 ID만 PK로 조회합니다. (댓글/게시글 엔티티를 로딩하지 않음)
+     *
+     * @param id 댓글 ID
+     * @return 게시글 ID (댓글이 없으면 empty)
+     */
+    @Query("select c.post.id from Comment c where c.id = :id")
+    Optional<Long> findPostIdById(@Param("id") Long id);
+
+    /**
+     * 작성자 본인의 댓글일 때만 내용을 수정합니다. (조회 없이 UPDATE 한 문장)
+     *
+     * @return 수정된 행 수 (0이면 댓글이 없거나 본인 댓글이 아님)
+     */
+    @Modifying
+    @Query("update Comment c set c.content = :content, c.upd_date = :now"
+            + " where c.id = :id and c.user.uid = :uid")
+    int updateContentIfOwner(@Param("id") Long id,
+                             @Param("uid") Long uid,
+                             @Param("content") String content,
+                             @Param("now") LocalDateTime now);
+
+    /**
+     * 작성자 본인의 댓글일 때만 삭제합니다. (조회 없이 DELETE 한 문장)
+     *
+     * @return 삭제된 행 수 (0이면 댓글이 없거나 본인 댓글이 아님)
+     */
+    @Modifying
+    @Query("delete from Comment c where c.id = :id and c.user.uid = :uid")
+    int deleteIfOwner(@Param("id") Long id, @Param("uid") Long uid);
+
+    /**
+     * 댓글 한 건을 응답 DTO 로 조회합니다. (실시간 스트림으로 보낼 때 사용)
+     *
+     * @param id 댓글 ID
+     * @return 댓글 응답 (없으면 empty)
+     */
+    @Query(RESPONSE_SELECT + " where c.id = :id")
+    Optional<CommentResponseDto> findResponseById(@Param("id") Long id);
+
+    /**
+     * 사용자의 최근 댓글을 게시글 제목과 함께 ID 내림차순으로 limit 건 조회합니다.
+     * (USER_ID, ID) 인덱스를 역순으로 읽으므로 댓글이 많은 사용자도 필요한 만큼만 읽습니다.
+     *
+     * @param uid   회원 고유 번호
+     * @param limit 조회할 개수
+     * @return 내 댓글 목록 (ID 내림차순 정렬)
+     */
+    @Query(MY_COMMENT_SELECT + " where c.user.uid = :uid order by c.id desc limit :limit")
+    List<MyCommentDto> findLatestByUser(@Param("uid") Long uid, @Param("limit") int limit);
+
+    /**
+     * 키셋 페이지: beforeId 보다 오래된 사용자 댓글을 ID 내림차순으로 limit 건 조회합니다.
+     *
+     * @param uid      회원 고유 번호
+     * @param beforeId 이 ID 보다 작은 댓글부터 조회
+     * @param limit    조회할 개수
+     * @return 내 댓글 목록 (ID 내림차순 정렬)
+     */
+    @Query(MY_COMMENT_SELECT + " where c.user.uid = :uid and c.id < :beforeId order by c.id desc limit :limit")
+    List<MyCommentDto> findByUserBefore(@Param("uid") Long uid,
+                                        @Param("beforeId") Long beforeId,
+                                        @Param("limit") int limit);
+
+    /**
+     * 게시글의 댓글 스레드 전체를 트리 순서(PATH 오름차순)로 limit 건 조회합니다.
+     * (POST_ID, PATH) 인덱스 범위 한 번으로 읽으며, 조립은 CommentTreeBuilder 가 합니다.
+     *
+     * @param postId 게시글 ID
+     * @param limit  조회할 개수
+     * @return 댓글 응답 목록 (PATH 오름차순 = 전위 순회 순서)
+     */
+    @Query(RESPONSE_SELECT + " where c.post.id = :postId order by c.path asc limit :limit")
+    List<CommentResponseDto> findThread(@Param("postId") Long postId, @Param("limit") int limit);
+
+    /**
+     * 특정 댓글과 그 하위 답글 전체를 트리 순서로 조회합니다. (PATH 접두사 범위 조회)
+     *
+     * @param postId     게시글 ID
+     * @param pathPrefix 기준 댓글의 PATH 뒤에 '%' 를 붙인 값
+     * @param limit      조회할 개수
+     * @return 댓글 응답 목록 (PATH 오름차순 = 전위 순회 순서)
+     */
+    @Query(RESPONSE_SELECT + " where c.post.id = :postId and c.path like :pathPrefix order by c.path asc limit :limit")
+    List<CommentResponseDto> findSubtree(@Param("postId") Long postId,
+                                         @Param("pathPrefix") String pathPrefix,
+                                         @Param("limit") int limit);
+
+    /**
+     * 답글을 달 부모 댓글의 위치(게시글, 경로, 깊이)만 조회합니다.
+     *
+     * @param id 부모 댓글 ID
+     * @return 부모 댓글 위치 (없으면 empty)
+     */
+    @Query("select new com.itnetwork.club_community.domain.comment.CommentPosition(c.post.id, c.path, c.depth)"
+            + " from Comment c where c.id = :id")
+    Optional<CommentPosition> findPositionById(@Param("id") Long id);
 }
@@ -1,15 +1,22 @@
 package com.itnetwork.club_community.domain.comment;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * 댓글 조회 응답 Dto
+ * CommentRepository 의 생성자 표현식(select new ...)에서 필드 순서대로 생성합니다.
  */
 @Getter
 @Builder
+@AllArgsConstructor
 public class CommentResponseDto {
 
     private Long id;               // 댓글 ID
@@ -20,4 +27,33 @@ public class CommentResponseDto {
     private Long writerUid;        // 작성자 UID
     private String writerId;       // 작성자 로그인 ID
     private String writerName;     // 작성자 닉네임
+
+    private Long parentId;         // 부모 댓글 ID (최상위 댓글이면 null)
+    private int depth;             // 답글 깊이 (최상위 댓글 0)
+
+    @JsonIgnore
+    private String path;           // 구체화 경로 (트리 조립용, 응답에는 포함하지 않음)
+
+    // 답글 목록 (트리 조회에서만 채워지고, 평면 목록 조회에서는 응답에 포함하지 않음)
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private List<CommentResponseDto> children;
+
+    /**
+     * 생성자 표현식용 생성자 (답글 목록 제외)
+     */
+    public CommentResponseDto(Long id, String content, LocalDateTime regDate, LocalDateTime updDate,
+                              Long writerUid, String writerId, String writerName,
+                              Long parentId, int depth, String path) {
+        this(id, content, regDate, updDate, writerUid, writerId, writerName, parentId, depth, path, null);
+    }
+
+    /**
+     * 트리 조립 시 답글을 추가합니다. (CommentTreeBuilder 전용)
+     */
+    void addChild(CommentResponseDto child) {
+        if (children == null) {
+            children = new ArrayList<>();
+        }
+        children.add(child);
+    }
 }
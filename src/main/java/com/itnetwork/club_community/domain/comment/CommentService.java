@@ -1,15 +1,21 @@
 package com.itnetwork.club_community.domain.comment;
 
-import com.itnetwork.club_community.domain.board.Board;
+import com.itnetwork.club_community.common.AfterCommit;
 import com.itnetwork.club_community.domain.board.BoardRepository;
-import com.itnetwork.club_community.domain.user.User;
+import com.itnetwork.club_community.domain.board.BoardVersions;
+import com.itnetwork.club_community.domain.search.SearchService;
 import com.itnetwork.club_community.domain.user.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * 댓글(Comment)에 대한 비즈니스 로직을 처리하는 서비스 클래스입니다.
@@ -22,112 +28,294 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    // 페이지 없이 한 번에 돌려주는 댓글 수 상한
+    private static final int UNPAGED_LIMIT = 200;
+    // 게시글별로 캐시하는 앞쪽 댓글 수 (전체 조회 상한 초과 여부를 알 수 있도록 한 건 더)
+    private static final int HEAD_SIZE = UNPAGED_LIMIT + 1;
+    // 트리(스레드) 조회로 한 번에 돌려주는 댓글 수 상한
+    private static final int THREAD_LIMIT = 1000;
+
     private final CommentRepository commentRepository;
     private final BoardRepository boardRepository;
     private final UserRepository userRepository;
+    private final SearchService searchService;
+    private final BoardVersions boardVersions;
+    private final CommentListCache commentListCache;
+    private final CommentEventHub commentEventHub;
+    private final MyCommentCache myCommentCache;
 
     /**
-     * 로그인 이메일(String)을 기반으로 User 엔티티를 조회하는 헬퍼 메서드
+     * 로그인 여부 확인 헬퍼 메서드
+     * 사용자 고유 번호(uid)는 액세스 토큰 클레임에서 오므로 DB를 조회하지 않습니다.
      */
-    private User getUserByEmail(String email) {
-        if (email == null) {
-            throw new RuntimeException("로그인 후 이용할 수 있습니다.");
+    private Long requireLogin(Long uid) {
+        if (uid == null) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인 후 이용할 수 있습니다.");
         }
+        return uid;
+    }
 
-        return userRepository.findByEmail(email)
-                .orElseThrow(() -> new RuntimeException("사용자 정보를 찾을 수 없습니다."));
+    /**
+     * 댓글이 달린 게시글 ID 조회 (댓글이 없으면 404)
+     */
+    private Long getPostIdOf(Long commentId) {
+        return commentRepository.findPostIdById(commentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글이 존재하지 않습니다."));
     }
 
     /**
      * 댓글 생성
      *
-     * @param dto   작성 요청 DTO
-     * @param email 로그인된 사용자 이메일 (JwtAuthFilter 에서 넣어준 principal)
+     * 작성자와 게시글은 엔티티를 읽지 않고 참조(프록시)만 연결합니다.
+     * 게시글 존재 여부는 댓글 수 증가 UPDATE 의 영향 행 수로 확인합니다.
+     *
+     * @param dto     작성 요청 DTO
+     * @param userUid 로그인된 사용자 고유 번호 (JwtAuthFilter 에서 넣어준 principal 의 uid)
      */
     @Transactional
-    public void createComment(CommentCreateDto dto, String email) {
+    public void createComment(CommentCreateDto dto, Long userUid) {
+
+        Long uid = requireLogin(userUid);
+        Long postId = dto.getPostId();
 
-        // 이메일로 실제 User 엔티티 조회
-        User user = getUserByEmail(email);
+        // 게시글이 없으면 0건 → INSERT 전에 404
+        if (postId == null || boardRepository.addCommentCount(postId, 1) == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+        }
 
-        // 댓글이 달릴 게시글 조회
-        Board post = boardRepository.findById(dto.getPostId())
-                .orElseThrow(() -> new RuntimeException("게시글을 찾을 수 없습니다."));
+        // 답글이면 부모 댓글의 경로/깊이를 이어받음
+        CommentPosition parent = dto.getParentId() == null ? null : getParentPosition(dto.getParentId(), postId);
 
         Comment comment = Comment.builder()
                 .content(dto.getContent())
-                .user(user)     // 인증된 실제 사용자
-                .post(post)
+                .user(userRepository.getReferenceById(uid))     // 인증된 사용자 (참조만)
+                .post(boardRepository.getReferenceById(postId)) // 게시글 (참조만)
+                .parentId(dto.getParentId())
+                .depth(parent == null ? 0 : parent.getDepth() + 1)
                 .build();
 
-        commentRepository.save(comment);
+        Comment saved = commentRepository.save(comment);
+        // ID 는 INSERT 후에 정해지므로 경로는 저장 직후 채움 (커밋 시 UPDATE 로 반영)
+        String parentPath = parent == null || parent.getPath() == null ? "" : parent.getPath();
+        saved.setPath(parentPath + Comment.pathSegment(saved.getId()));
+        AfterCommit.run(() -> {
+            commentsChanged(postId);
+            myCommentCache.invalidateUser(uid);
+            searchService.indexComment(saved.getId(), postId, saved.getContent());
+            publish(CommentEvent.CREATED, postId, saved.getId());
+        });
+    }
+
+    /**
+     * 답글을 달 부모 댓글의 위치 조회
+     * 부모 댓글이 없으면 404, 다른 게시글의 댓글이거나 최대 깊이에 도달했으면 400 입니다.
+     */
+    private CommentPosition getParentPosition(Long parentId, Long postId) {
+        CommentPosition parent = commentRepository.findPositionById(parentId)
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "답글을 달 댓글이 존재하지 않습니다."));
+        if (!postId.equals(parent.getPostId())) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "같은 게시글의 댓글에만 답글을 달 수 있습니다.");
+        }
+        if (parent.getDepth() >= Comment.MAX_DEPTH) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "답글은 " + Comment.MAX_DEPTH + "단계까지만 달 수 있습니다.");
+        }
+        return parent;
     }
 
     /**
      * 댓글 수정
      *
+     * 본인 확인과 수정을 "WHERE ID = ? AND USER_ID = ?" 조건부 UPDATE 한 문장으로 처리합니다.
+     * 댓글이 없으면 404, 있는데 수정된 행이 없으면 본인 댓글이 아니므로 403 입니다.
+     *
      * @param commentId 수정할 댓글 ID
      * @param dto       수정 요청 데이터
-     * @param email     로그인한 사용자 이메일
+     * @param userUid   로그인한 사용자 고유 번호
      */
     @Transactional
-    public void updateComment(Long commentId, CommentUpdateDto dto, String email) {
+    public void updateComment(Long commentId, CommentUpdateDto dto, Long userUid) {
 
-        User loginUser = getUserByEmail(email);
+        Long uid = requireLogin(userUid);
+        Long postId = getPostIdOf(commentId);
 
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new RuntimeException("댓글이 존재하지 않습니다."));
-
-        // 본인이 작성한 댓글인지 검증 (uid 기준)
-        if (!comment.getUser().getUid().equals(loginUser.getUid())) {
-            throw new RuntimeException("본인 댓글만 수정할 수 있습니다.");
+        if (commentRepository.updateContentIfOwner(commentId, uid, dto.getContent(), LocalDateTime.now()) == 0) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 댓글만 수정할 수 있습니다.");
         }
 
-        comment.updateContent(dto.getContent());
-        // JPA 변경 감지로 자동 반영, save() 생략해도 되지만 유지해도 무방
-        commentRepository.save(comment);
+        AfterCommit.run(() -> {
+            commentsChanged(postId);
+            myCommentCache.invalidateUser(uid);
+            searchService.indexComment(commentId, postId, dto.getContent());
+            publish(CommentEvent.UPDATED, postId, commentId);
+        });
     }
 
     /**
      * 댓글 삭제
      *
+     * 본인 확인과 삭제를 조건부 DELETE 한 문장으로 처리합니다. (404 / 403 구분은 수정과 동일)
+     *
      * @param commentId 삭제할 댓글 ID
-     * @param email     로그인한 사용자 이메일
+     * @param userUid   로그인한 사용자 고유 번호
      */
     @Transactional
-    public void deleteComment(Long commentId, String email) {
+    public void deleteComment(Long commentId, Long userUid) {
 
-        User loginUser = getUserByEmail(email);
+        Long uid = requireLogin(userUid);
+        Long postId = getPostIdOf(commentId);
 
-        Comment comment = commentRepository.findById(commentId)
-                .orElseThrow(() -> new RuntimeException("댓글이 존재하지 않습니다."));
+        if (commentRepository.deleteIfOwner(commentId, uid) == 0) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인 댓글만 삭제할 수 있습니다.");
+        }
+
+        boardRepository.addCommentCount(postId, -1);
+        AfterCommit.run(() -> {
+            commentsChanged(postId);
+            myCommentCache.invalidateUser(uid);
+            searchService.removeComment(commentId);
+            publish(CommentEvent.DELETED, postId, commentId);
+        });
+    }
+
+    /**
+     * 특정 게시글의 댓글 목록 조회 (페이지 없이 전체)
+     *
+     * 댓글이 UNPAGED_LIMIT 건을 넘는 게시글은 응답이 너무 커지므로 거절하고,
+     * getCommentPage 의 키셋 페이지 조회를 사용하도록 안내합니다.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS) // 캐시 적중 시에는 트랜잭션/커넥션을 열지 않음
+    public List<CommentResponseDto> getCommentsByPost(Long postId) {
 
-        // 본인 여부 확인 (uid 기준)
-        if (!comment.getUser().getUid().equals(loginUser.getUid())) {
-            throw new RuntimeException("본인 댓글만 삭제할 수 있습니다.");
+        List<CommentResponseDto> comments = getHead(postId);
+        if (comments.size() > UNPAGED_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "댓글이 많은 게시글은 limit, after, before 파라미터로 나눠서 조회해주세요.");
         }
+        return comments;
+    }
 
-        commentRepository.delete(comment);
+    /**
+     * 게시글의 첫 댓글 limit 건 조회 (캐시된 앞부분 목록에서 잘라서 반환)
+     * 다음 댓글이 있는지 알기 위해 한 건 더 돌려줍니다.
+     *
+     * @return limit + 1 건까지의 댓글 (호출한 쪽에서 초과 여부로 hasMore 판단)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponseDto> getFirstComments(Long postId, int limit) {
+        if (limit + 1 > HEAD_SIZE) {
+            return commentRepository.findFirstResponses(postId, limit + 1);
+        }
+        List<CommentResponseDto> head = getHead(postId);
+        return head.size() > limit + 1 ? head.subList(0, limit + 1) : head;
     }
 
     /**
-     * 특정 게시글의 댓글 목록 조회
+     * 게시글의 앞쪽 댓글 최대 HEAD_SIZE 건 (게시글별 캐시)
+     * 작성자까지 한 번에 조회하는 DTO 프로젝션을 사용합니다. (댓글별 User 지연 로딩 없음)
+     * 버전을 먼저 읽고 DB를 조회해야 조회 도중 바뀐 목록이 새 버전으로 캐시되지 않습니다.
+     */
+    private List<CommentResponseDto> getHead(Long postId) {
+        long version = boardVersions.commentVersion(postId);
+        return commentListCache.get(postId, version, id -> commentRepository.findFirstResponses(id, HEAD_SIZE));
+    }
+
+    /**
+     * 댓글 변경이 커밋된 뒤 호출: 버전을 올려서 ETag 와 캐시된 목록을 무효화합니다.
+     */
+    private void commentsChanged(Long postId) {
+        long version = boardVersions.bumpComments(postId);
+        commentListCache.evictBefore(postId, version);
+    }
+
+    /**
+     * 실시간 스트림 구독자에게 변경 이벤트 발행 (커밋 후 호출)
+     * 구독자가 있는 게시글만 작성/수정된 댓글을 한 번 조회해서 함께 보냅니다.
+     */
+    private void publish(String type, Long postId, Long commentId) {
+        if (!commentEventHub.hasSubscribers(postId)) {
+            return;
+        }
+        CommentResponseDto comment = CommentEvent.DELETED.equals(type)
+                ? null
+                : commentRepository.findResponseById(commentId).orElse(null);
+        commentEventHub.publish(new CommentEvent(type, postId, commentId, comment));
+    }
+
+    /**
+     * 특정 게시글의 댓글 키셋 페이지 조회
+     *
+     * - afterId 가 있으면 그 뒤(최신 방향)로 limit 건
+     * - beforeId 가 있으면 그 앞(이전 방향)으로 limit 건
+     * - 둘 다 없으면 첫 댓글부터 limit 건
+     * 어느 방향이든 결과는 ID 오름차순으로 돌려줍니다.
      */
     @Transactional(readOnly = true)
-    public List<CommentResponseDto> getCommentsByPost(Long postId) {
+    public CommentPageResponse getCommentPage(Long postId, Long afterId, Long beforeId, int limit) {
+        if (afterId != null && beforeId != null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "after 와 before 는 함께 사용할 수 없습니다.");
+        }
+
+        if (beforeId != null) {
+            List<CommentResponseDto> rows = commentRepository.findPageBefore(postId, beforeId, limit + 1);
+            boolean hasMore = rows.size() > limit;
+            List<CommentResponseDto> items = new ArrayList<>(hasMore ? rows.subList(0, limit) : rows);
+            Collections.reverse(items);
+            return new CommentPageResponse(items, hasMore, hasMore ? items.get(0).getId() : null);
+        }
 
-        List<Comment> comments = commentRepository.findByPostIdOrderByIdAsc(postId);
-
-        return comments.stream()
-                .map(comment -> CommentResponseDto.builder()
-                        .id(comment.getId())
-                        .content(comment.getContent())
-                        .regDate(comment.getReg_date())
-                        .updDate(comment.getUpd_date())
-                        .writerUid(comment.getUser().getUid())
-                        .writerId(comment.getUser().getUser_id())
-                        .writerName(comment.getUser().getUser_nm())
-                        .build())
-                .collect(Collectors.toList());
+        List<CommentResponseDto> rows = commentRepository.findPageAfter(postId, afterId != null ? afterId : 0L, limit + 1);
+        boolean hasMore = rows.size() > limit;
+        List<CommentResponseDto> items = hasMore ? List.copyOf(rows.subList(0, limit)) : rows;
+        return new CommentPageResponse(items, hasMore, hasMore ? items.get(items.size() - 1).getId() : null);
+    }
+
+    /**
+     * 게시글의 댓글 스레드를 트리 형태로 조회
+     *
+     * (POST_ID, PATH) 인덱스를 PATH 순서로 한 번 읽고 메모리에서 트리를 조립합니다. (깊이와 관계없이 쿼리 1회)
+     * rootId 가 있으면 그 댓글과 하위 답글만 돌려줍니다.
+     *
+     * @param postId 게시글 ID
+     * @param rootId 하위 트리의 기준 댓글 ID (없으면 전체 스레드)
+     * @return 최상위 댓글 목록 (각 댓글의 children 에 답글 포함)
+     */
+    @Transactional(readOnly = true)
+    public List<CommentResponseDto> getThread(Long postId, Long rootId) {
+        List<CommentResponseDto> rows;
+        if (rootId == null) {
+            rows = commentRepository.findThread(postId, THREAD_LIMIT + 1);
+        } else {
+            CommentPosition root = commentRepository.findPositionById(rootId)
+                    .filter(position -> postId.equals(position.getPostId()) && position.getPath() != null)
+                    .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "댓글이 존재하지 않습니다."));
+            rows = commentRepository.findSubtree(postId, root.getPath() + "%", THREAD_LIMIT + 1);
+        }
+
+        if (rows.size() > THREAD_LIMIT) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "댓글이 많은 스레드는 rootId 로 나눠서 조회해주세요.");
+        }
+        return CommentTreeBuilder.build(rows);
+    }
+
+    /**
+     * 로그인한 사용자의 댓글 키셋 페이지 조회 (최신순, 게시글 제목 포함, 사용자별 캐시)
+     *
+     * @param userUid  로그인한 사용자 고유 번호
+     * @param beforeId 이 ID 보다 오래된 댓글부터 (없으면 최신부터)
+     * @param limit    조회할 개수
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public MyCommentPageResponse getMyComments(Long userUid, Long beforeId, int limit) {
+        Long uid = requireLogin(userUid);
+        return myCommentCache.get(uid, beforeId, limit, () -> {
+            List<MyCommentDto> rows = beforeId == null
+                    ? commentRepository.findLatestByUser(uid, limit + 1)
+                    : commentRepository.findByUserBefore(uid, beforeId, limit + 1);
+            boolean hasMore = rows.size() > limit;
+            List<MyCommentDto> items = hasMore ? List.copyOf(rows.subList(0, limit)) : List.copyOf(rows);
+            return new MyCommentPageResponse(items, hasMore, hasMore ? items.get(items.size() - 1).getId() : null);
+        });
     }
 }
@@ -0,0 +1,48 @@
+package com.itnetwork.club_community.domain.comment;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 트리 순서(PATH 오름차순)로 읽은 댓글 목록을 부모-자식 트리로 조립하는 클래스
+ *
+ * PATH 순서는 전위 순회 순서(부모 → 자식들 → 다음 형제)이므로, 현재 조상들만 스택에 두고
+ * 한 번 훑으면서 경로가 이어지지 않는 항목을 스택에서 빼는 것만으로 부모를 찾을 수 있습니다. (O(n), 추가 조회 없음)
+ * 부모가 삭제된 답글은 남아 있는 가장 가까운 조상(없으면 최상위)에 붙습니다.
+ */
+public final class CommentTreeBuilder {
+
+    private CommentTreeBuilder() {
+    }
+
+    /**
+     * @param preorder PATH 오름차순으로 정렬된 댓글 목록 (하위 트리 조회 결과도 가능)
+     * @return 최상위 노드 목록 (각 노드의 children 에 답글이 채워짐)
+     */
+    public static List<CommentResponseDto> build(List<CommentResponseDto> preorder) {
+        List<CommentResponseDto> roots = new ArrayList<>();
+        Deque<CommentResponseDto> ancestors = new ArrayDeque<>();
+        for (CommentResponseDto node : preorder) {
+            while (!ancestors.isEmpty() && !isAncestor(ancestors.peek(), node)) {
+                ancestors.pop();
+            }
+            if (ancestors.isEmpty()) {
+                roots.add(node);
+            } else {
+                ancestors.peek().addChild(node);
+            }
+            ancestors.push(node);
+        }
+        return roots;
+    }
+
+    private static boolean isAncestor(CommentResponseDto ancestor, CommentResponseDto node) {
+        String ancestorPath = ancestor.getPath();
+        String path = node.getPath();
+        return ancestorPath != null && path != null
+                && path.length() > ancestorPath.length()
+                && path.startsWith(ancestorPath);
+    }
+}
@@ -0,0 +1,57 @@
+package com.itnetwork.club_community.domain.comment;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 "내 댓글" 페이지 캐시
+ *
+ * 캐시 키에 사용자별 버전을 넣어두고, 사용자가 댓글을 작성·수정·삭제하면 커밋 직후 버전을 올립니다.
+ * 그러면 그 사용자의 이전 페이지들은 더 이상 조회되지 않고 크기 제한/만료로 자연스럽게 정리됩니다.
+ * (버전은 DB를 읽기 전에 확인하므로, 읽는 도중 작성된 댓글이 빠진 페이지가 새 버전으로 저장되지 않습니다.)
+ */
+@Component
+public class MyCommentCache {
+
+    private final Cache<Key, MyCommentPageResponse> cache;
+    private final Map<Long, AtomicLong> userVersions = new ConcurrentHashMap<>();
+
+    public MyCommentCache(MeterRegistry meterRegistry,
+                          @Value("${comment.my-cache.maximum-size:5000}") long maximumSize,
+                          @Value("${comment.my-cache.ttl:5m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "myComments");
+    }
+
+    public MyCommentPageResponse get(Long uid, Long beforeId, int limit, Supplier<MyCommentPageResponse> loader) {
+        Key key = new Key(uid, version(uid), beforeId == null ? 0L : beforeId, limit);
+        return cache.get(key, k -> loader.get());
+    }
+
+    // 사용자의 댓글이 바뀐 뒤 호출 (커밋 후)
+    public void invalidateUser(Long uid) {
+        userVersions.computeIfAbsent(uid, id -> new AtomicLong()).incrementAndGet();
+    }
+
+    private long version(Long uid) {
+        AtomicLong version = userVersions.get(uid);
+        return version == null ? 0L : version.get();
+    }
+
+    private record Key(Long uid, long version, long beforeId, int limit) {
+    }
+}
@@ -0,0 +1,23 @@
+package com.itnetwork.club_community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 내 댓글 조회 응답 Dto (프로필 화면용)
+ * CommentRepository 의 생성자 표현식(select new ...)에서 필드 순서대로 생성합니다.
+ */
+@Getter
+@AllArgsConstructor
+public class MyCommentDto {
+
+    private Long id;               // 댓글 ID
+    private String content;        // 댓글 내용
+    private LocalDateTime regDate; // 작성일
+    private LocalDateTime updDate; // 수정일
+
+    private Long postId;           // 댓글이 달린 게시글 ID
+    private String postTitle;      // 댓글이 달린 게시글 제목
+}
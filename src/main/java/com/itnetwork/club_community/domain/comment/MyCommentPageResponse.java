@@ -0,0 +1,22 @@
+package com.itnetwork.club_community.domain.comment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 내 댓글 키셋 페이지 응답 Dto
+ *
+ * - items: 내 댓글 목록 (최신순)
+ * - hasMore: 더 오래된 댓글이 있는지 여부
+ * - nextCursor: 다음 요청의 before 파라미터로 넘길 댓글 ID (더 없으면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class MyCommentPageResponse {
+
+    private List<MyCommentDto> items;
+    private boolean hasMore;
+    private Long nextCursor;
+}
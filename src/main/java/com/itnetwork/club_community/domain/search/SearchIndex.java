@@ -0,0 +1,269 @@
+package com.itnetwork.club_community.domain.search;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글/댓글 본문에 대한 메모리 역색인(inverted index)
+ *
+ * - 문서 단위: 게시글 1건(제목 + 본문) 또는 댓글 1건
+ * - 점수: 문서별 TF-IDF 를 게시글 기준으로 합산한 뒤, 검색어 토큰을 얼마나 많이 포함했는지로 가중
+ * - 상위 K건만 최소 힙으로 골라내므로 결과 정렬 비용은 O(매칭 수 * log K) 입니다.
+ *
+ * 읽기(검색)는 동시에 여러 스레드가, 쓰기(색인 갱신)는 한 번에 하나만 수행하도록 ReadWriteLock 으로 보호합니다.
+ */
+public class SearchIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x53494458; // "SIDX"
+    private static final int SNAPSHOT_VERSION = 1;
+    private static final int TITLE_WEIGHT = 3;     // 제목 토큰은 본문보다 3배 가중
+    private static final int MAX_QUERY_TERMS = 32;
+
+    // 검색어 토큰 → (문서 키 → 토큰 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+    // 문서 키 → (토큰 → 빈도), 문서 삭제/교체 시 역색인을 정리하기 위해 보관
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    // 문서 키 → 소속 게시글 ID
+    private final Map<Long, Long> owners = new HashMap<>();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private int boardDocuments;
+    private int commentDocuments;
+
+    // 게시글과 댓글 ID가 겹치지 않도록 문서 키의 마지막 비트로 종류를 구분합니다.
+    static long boardKey(long boardId) {
+        return boardId << 1;
+    }
+
+    static long commentKey(long commentId) {
+        return (commentId << 1) | 1L;
+    }
+
+    private static boolean isComment(long key) {
+        return (key & 1L) == 1L;
+    }
+
+    /**
+     * 게시글을 색인합니다. 이미 있으면 교체합니다.
+     */
+    public void putBoard(long boardId, String title, String content) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : SearchTokenizer.indexTokens(title)) {
+            terms.merge(token, TITLE_WEIGHT, Integer::sum);
+        }
+        for (String token : SearchTokenizer.indexTokens(content)) {
+            terms.merge(token, 1, Integer::sum);
+        }
+        put(boardKey(boardId), boardId, terms);
+    }
+
+    /**
+     * 댓글을 색인합니다. 이미 있으면 교체합니다.
+     */
+    public void putComment(long commentId, long boardId, String content) {
+        Map<String, Integer> terms = new HashMap<>();
+        for (String token : SearchTokenizer.indexTokens(content)) {
+            terms.merge(token, 1, Integer::sum);
+        }
+        put(commentKey(commentId), boardId, terms);
+    }
+
+    public void removeComment(long commentId) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(commentKey(commentId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void put(long key, long boardId, Map<String, Integer> terms) {
+        lock.writeLock().lock();
+        try {
+            removeDocument(key);
+            addDocument(key, boardId, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void addDocument(long key, long boardId, Map<String, Integer> terms) {
+        documents.put(key, terms);
+        owners.put(key, boardId);
+        for (Map.Entry<String, Integer> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), t -> new HashMap<>()).put(key, term.getValue());
+        }
+        if (isComment(key)) {
+            commentDocuments++;
+        } else {
+            boardDocuments++;
+        }
+    }
+
+    private void removeDocument(long key) {
+        Map<String, Integer> terms = documents.remove(key);
+        if (terms == null) {
+            return;
+        }
+        owners.remove(key);
+        for (String term : terms.keySet()) {
+            Map<Long, Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(key);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        if (isComment(key)) {
+            commentDocuments--;
+        } else {
+            boardDocuments--;
+        }
+    }
+
+    /**
+     * 검색어와 관련도가 높은 순서로 게시글 ID를 최대 limit 건 반환합니다.
+     */
+    public List<Long> search(String query, int limit) {
+        List<String> terms = new ArrayList<>(new LinkedHashSet<>(SearchTokenizer.queryTokens(query)));
+        if (terms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (terms.size() > MAX_QUERY_TERMS) {
+            terms = terms.subList(0, MAX_QUERY_TERMS);
+        }
+
+        Map<Long, double[]> scores = new HashMap<>(); // 게시글 ID → [점수]
+        Map<Long, Integer> matched = new HashMap<>(); // 게시글 ID → 매칭된 검색어 토큰 비트마스크
+
+        lock.readLock().lock();
+        try {
+            int totalDocuments = documents.size();
+            for (int i = 0; i < terms.size(); i++) {
+                Map<Long, Integer> posting = postings.get(terms.get(i));
+                if (posting == null) {
+                    continue;
+                }
+                double idf = Math.log(1.0 + (double) totalDocuments / posting.size());
+                int bit = 1 << i;
+                for (Map.Entry<Long, Integer> entry : posting.entrySet()) {
+                    Long boardId = owners.get(entry.getKey());
+                    double tf = 1.0 + Math.log(entry.getValue());
+                    scores.computeIfAbsent(boardId, id -> new double[1])[0] += tf * idf;
+                    matched.merge(boardId, bit, (a, b) -> a | b);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 점수 상위 K건만 최소 힙으로 유지
+        PriorityQueue<Map.Entry<Long, Double>> heap =
+                new PriorityQueue<>(limit + 1, Map.Entry.<Long, Double>comparingByValue());
+        int termCount = terms.size();
+        for (Map.Entry<Long, double[]> entry : scores.entrySet()) {
+            double coverage = (double) Integer.bitCount(matched.get(entry.getKey())) / termCount;
+            heap.offer(Map.entry(entry.getKey(), entry.getValue()[0] * coverage));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+
+        Long[] ranked = new Long[heap.size()];
+        for (int i = ranked.length - 1; i >= 0; i--) {
+            ranked[i] = heap.poll().getKey();
+        }
+        return List.of(ranked);
+    }
+
+    public int boardCount() {
+        lock.readLock().lock();
+        try {
+            return boardDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int commentCount() {
+        lock.readLock().lock();
+        try {
+            return commentDocuments;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            owners.clear();
+            boardDocuments = 0;
+            commentDocuments = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서별 토큰 빈도(정방향 색인)만 저장합니다. 역색인은 불러올 때 메모리에서 다시 만듭니다.
+     */
+    public void writeSnapshot(DataOutputStream out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeInt(SNAPSHOT_VERSION);
+            out.writeInt(documents.size());
+            for (Map.Entry<Long, Map<String, Integer>> doc : documents.entrySet()) {
+                out.writeLong(doc.getKey());
+                out.writeLong(owners.get(doc.getKey()));
+                out.writeInt(doc.getValue().size());
+                for (Map.Entry<String, Integer> term : doc.getValue().entrySet()) {
+                    out.writeUTF(term.getKey());
+                    out.writeInt(term.getValue());
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 저장된 스냅샷으로 색인을 교체합니다.
+     */
+    public void readSnapshot(DataInputStream in) throws IOException {
+        if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+            throw new IOException("지원하지 않는 검색 색인 스냅샷 형식입니다.");
+        }
+        lock.writeLock().lock();
+        try {
+            clear();
+            int documentCount = in.readInt();
+            for (int i = 0; i < documentCount; i++) {
+                long key = in.readLong();
+                long boardId = in.readLong();
+                int termCount = in.readInt();
+                Map<String, Integer> terms = new HashMap<>(termCount * 2);
+                for (int j = 0; j < termCount; j++) {
+                    terms.put(in.readUTF(), in.readInt());
+                }
+                addDocument(key, boardId, terms);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+}
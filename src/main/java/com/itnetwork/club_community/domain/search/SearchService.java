@@ -0,0 +1,163 @@
+package com.itnetwork.club_community.domain.search;
+
+import com.itnetwork.club_community.domain.board.Board;
+import com.itnetwork.club_community.domain.board.BoardRepository;
+import com.itnetwork.club_community.domain.comment.Comment;
+import com.itnetwork.club_community.domain.comment.CommentRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 게시글/댓글 검색 색인을 관리하는 서비스
+ *
+ * - 서버가 뜰 때 스냅샷 파일이 있으면 불러오고, 없거나 DB와 맞지 않으면 전체 재색인합니다.
+ * - 게시글/댓글이 저장·수정·삭제되면 해당 문서만 색인을 갱신합니다.
+ * - 정상 종료 시 색인을 스냅샷 파일로 저장합니다.
+ *   스냅샷은 읽자마자 삭제하므로, 비정상 종료 후에는 낡은 스냅샷 대신 재색인을 수행합니다.
+ */
+@Slf4j
+@Service
+public class SearchService {
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final BoardRepository boardRepository;
+    private final CommentRepository commentRepository;
+    private final Path snapshotPath;
+    private final SearchIndex index = new SearchIndex();
+
+    public SearchService(BoardRepository boardRepository,
+                         CommentRepository commentRepository,
+                         @Value("${search.snapshot-path:data/search-index.snapshot}") String snapshotPath) {
+        this.boardRepository = boardRepository;
+        this.commentRepository = commentRepository;
+        this.snapshotPath = Paths.get(snapshotPath);
+    }
+
+    /**
+     * 검색어와 관련도가 높은 게시글 ID 목록을 반환합니다.
+     */
+    public List<Long> search(String query, int limit) {
+        return index.search(query, limit);
+    }
+
+    public void indexBoard(Board board) {
+        index.putBoard(board.getId(), board.getTitle(), board.getContent());
+    }
+
+    public void indexComment(Long commentId, Long boardId, String content) {
+        index.putComment(commentId, boardId, content);
+    }
+
+    public void removeComment(Long commentId) {
+        index.removeComment(commentId);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        if (restoreSnapshot()) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * DB에 있는 모든 게시글과 댓글로 색인을 다시 만듭니다.
+     */
+    public void rebuild() {
+        long started = System.currentTimeMillis();
+        index.clear();
+
+        long lastId = 0L;
+        List<Board> boards;
+        do {
+            boards = boardRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Board board : boards) {
+                indexBoard(board);
+                lastId = board.getId();
+            }
+        } while (boards.size() == REBUILD_BATCH_SIZE);
+
+        lastId = 0L;
+        List<Comment> comments;
+        do {
+            comments = commentRepository.findByIdGreaterThanOrderByIdAsc(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            for (Comment comment : comments) {
+                // 지연 로딩 프록시의 ID 조회는 추가 쿼리를 만들지 않습니다.
+                indexComment(comment.getId(), comment.getPost().getId(), comment.getContent());
+                lastId = comment.getId();
+            }
+        } while (comments.size() == REBUILD_BATCH_SIZE);
+
+        log.info("검색 색인 재구성 완료: 게시글 {}건, 댓글 {}건 ({}ms)",
+                index.boardCount(), index.commentCount(), System.currentTimeMillis() - started);
+    }
+
+    private boolean restoreSnapshot() {
+        if (!Files.exists(snapshotPath)) {
+            return false;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new GZIPInputStream(Files.newInputStream(snapshotPath))))) {
+            index.readSnapshot(in);
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷을 읽지 못해 재색인합니다: {}", e.getMessage());
+            return false;
+        } finally {
+            deleteSnapshot();
+        }
+
+        // 스냅샷 이후 다른 경로로 데이터가 바뀌었다면 재색인
+        if (index.boardCount() != boardRepository.count() || index.commentCount() != commentRepository.count()) {
+            log.warn("검색 색인 스냅샷이 DB와 일치하지 않아 재색인합니다.");
+            return false;
+        }
+        log.info("검색 색인 스냅샷 복원 완료: 게시글 {}건, 댓글 {}건", index.boardCount(), index.commentCount());
+        return true;
+    }
+
+    @PreDestroy
+    public void saveSnapshot() {
+        try {
+            Path parent = snapshotPath.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Path temp = snapshotPath.resolveSibling(snapshotPath.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(
+                    new GZIPOutputStream(Files.newOutputStream(temp))))) {
+                index.writeSnapshot(out);
+            }
+            Files.move(temp, snapshotPath, StandardCopyOption.REPLACE_EXISTING);
+            log.info("검색 색인 스냅샷 저장: {}", snapshotPath.toAbsolutePath());
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private void deleteSnapshot() {
+        try {
+            Files.deleteIfExists(snapshotPath);
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 삭제 실패: {}", e.getMessage());
+        }
+    }
+}
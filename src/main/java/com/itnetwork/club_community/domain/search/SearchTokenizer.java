@@ -0,0 +1,92 @@
+package com.itnetwork.club_community.domain.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 검색용 토크나이저
+ *
+ * - 영문/숫자 등은 공백·기호로 나눈 단어를 소문자로 변환해 그대로 사용합니다.
+ * - 한글 음절 구간은 형태소 분석 없이 2음절 단위(bigram)로 자릅니다.
+ *   색인할 때는 한 글자 검색도 가능하도록 1음절(unigram)도 함께 넣습니다.
+ *
+ * 예시: "스프링 Boot 3" → 색인: [스, 프, 링, 스프, 프링, boot, 3] / 검색: [스프, 프링, boot, 3]
+ */
+public final class SearchTokenizer {
+
+    private static final int MAX_TOKEN_LENGTH = 40;
+
+    private SearchTokenizer() {
+    }
+
+    /**
+     * 색인용 토큰 목록 (중복 포함, 빈도 계산에 사용)
+     */
+    public static List<String> indexTokens(String text) {
+        return tokenize(text, true);
+    }
+
+    /**
+     * 검색어용 토큰 목록
+     */
+    public static List<String> queryTokens(String text) {
+        return tokenize(text, false);
+    }
+
+    private static List<String> tokenize(String text, boolean forIndex) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+
+        StringBuilder word = new StringBuilder();
+        StringBuilder hangul = new StringBuilder();
+        int i = 0;
+        while (i < text.length()) {
+            int cp = text.codePointAt(i);
+            i += Character.charCount(cp);
+
+            if (isHangulSyllable(cp)) {
+                flushWord(word, tokens);
+                hangul.appendCodePoint(cp);
+            } else if (Character.isLetterOrDigit(cp)) {
+                flushHangul(hangul, tokens, forIndex);
+                word.appendCodePoint(cp);
+            } else {
+                flushWord(word, tokens);
+                flushHangul(hangul, tokens, forIndex);
+            }
+        }
+        flushWord(word, tokens);
+        flushHangul(hangul, tokens, forIndex);
+        return tokens;
+    }
+
+    private static void flushWord(StringBuilder word, List<String> tokens) {
+        if (word.length() > 0 && word.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(word.toString().toLowerCase(Locale.ROOT));
+        }
+        word.setLength(0);
+    }
+
+    private static void flushHangul(StringBuilder run, List<String> tokens, boolean forIndex) {
+        int length = run.length(); // 한글 음절은 모두 BMP 문자이므로 char 단위로 다뤄도 됩니다
+        if (length == 0) {
+            return;
+        }
+        if (length == 1 || forIndex) {
+            for (int i = 0; i < length; i++) {
+                tokens.add(String.valueOf(run.charAt(i)));
+            }
+        }
+        for (int i = 0; i + 1 < length; i++) {
+            tokens.add(run.substring(i, i + 2));
+        }
+        run.setLength(0);
+    }
+
+    private static boolean isHangulSyllable(int cp) {
+        return cp >= 0xAC00 && cp <= 0xD7A3;
+    }
+}
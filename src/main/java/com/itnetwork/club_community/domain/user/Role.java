@@ -0,0 +1,19 @@
+package com.itnetwork.club_community.domain.user;
+
+/**
+ * 사용자 권한
+ * member_tbl 의 ROLE 컬럼에 이름(USER / ADMIN)으로 저장되고, 토큰의 roles 클레임에는 "ROLE_" 을 붙여서 들어갑니다.
+ *
+ * 예시: 관리자 지정은 DB에서 직접 합니다. (UPDATE member_tbl SET ROLE = 'ADMIN' WHERE EMAIL = '...')
+ */
+public enum Role {
+    USER,  // 일반 회원 (기본값)
+    ADMIN; // 관리자 (/api/admin/**, 게시글 일괄 등록)
+
+    /**
+     * @return Spring Security 권한 이름 (예: ROLE_ADMIN)
+     */
+    public String authority() {
+        return "ROLE_" + name();
+    }
+}
@@ -49,6 +49,11 @@ public class User implements UserDetails {
     @Column(name = "EMAIL", nullable = false, unique = true)
     private String email;
 
+    // 사용자 권한 (기존 회원은 컬럼이 비어 있으므로 null 이면 USER 로 취급)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ROLE", length = 20)
+    private Role role;
+
     /**
      * 사용자 객체를 생성하는 빌더 패턴 생성자
      * 
@@ -57,25 +62,28 @@ public class User implements UserDetails {
      * @param user_pw 사용자 비밀번호
      * @param user_nm 사용자 이름
      * @param email 사용자 이메일
+     * @param role 사용자 권한 (없으면 USER)
      */
     @Builder
-    public User(Long uid, String user_id, String user_pw, String user_nm, String email) {
+    public User(Long uid, String user_id, String user_pw, String user_nm, String email, Role role) {
         this.uid = uid;
         this.user_id = user_id;
         this.user_pw = user_pw;
         this.user_nm = user_nm;
         this.email = email;
+        this.role = role == null ? Role.USER : role;
     }
 
     /**
      * 사용자의 권한을 반환하는 메서드
      * Spring Security에서 사용자의 권한을 확인할 때 호출됩니다.
      * 
-     * @return 사용자의 권한 목록 (현재는 ROLE_USER만 반환)
+     * @return 사용자의 권한 목록 (ROLE_USER 또는 ROLE_ADMIN)
      */
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority("ROLE_USER"));
+        Role current = role == null ? Role.USER : role;
+        return List.of(new SimpleGrantedAuthority(current.authority()));
     }
 
     /**
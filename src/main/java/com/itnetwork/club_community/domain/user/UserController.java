@@ -0,0 +1,40 @@
+package com.itnetwork.club_community.domain.user;
+
+import com.itnetwork.club_community.domain.auth.JwtPrincipal;
+import com.itnetwork.club_community.domain.comment.CommentService;
+import com.itnetwork.club_community.domain.comment.MyCommentPageResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * 로그인한 사용자 본인 정보 관련 API를 제공하는 컨트롤러 클래스
+ *
+ * - 내 댓글 목록 조회 (프로필 화면)
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/users")
+public class UserController {
+
+    private static final int MAX_PAGE_SIZE = 50;
+
+    private final CommentService commentService;
+
+    /**
+     * 내 댓글 목록 조회 (최신순 키셋 페이지)
+     * 응답의 nextCursor 를 before 로 넘기면 더 오래된 댓글을 이어서 조회합니다.
+     *
+     * GET /api/users/me/comments?limit=20
+     * GET /api/users/me/comments?before=120&limit=20
+     */
+    @GetMapping("/me/comments")
+    public MyCommentPageResponse getMyComments(@AuthenticationPrincipal JwtPrincipal principal,
+                                               @RequestParam(value = "before", required = false) Long before,
+                                               @RequestParam(value = "limit", defaultValue = "20") int limit) {
+        return commentService.getMyComments(principal == null ? null : principal.getUid(), before, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE));
+    }
+}
@@ -8,9 +8,8 @@ import org.springframework.stereotype.Service;
 
 /**
  * Spring Security에서 사용하는 사용자 정보를 로드하는 서비스 클래스
- * JWT 인증 필터에서 사용자 정보를 가져올 때 이 서비스를 사용합니다.
- * 
- * 예시: JWT 토큰에서 이메일을 추출한 후, 이 서비스를 통해 사용자 정보를 가져옵니다.
+ * JWT 인증 필터는 토큰 클레임(uid, roles)만으로 인증하므로 요청마다 이 서비스를 호출하지 않습니다.
+ * (토큰 재발급처럼 사용자 정보가 필요한 곳은 UserSnapshotCache 를 사용합니다.)
  */
 @Service
 @RequiredArgsConstructor
@@ -1,7 +1,11 @@
 package com.itnetwork.club_community.domain.user;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
@@ -20,4 +24,17 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 사용자 정보 (Optional: 사용자가 없을 수도 있음)
      */
     Optional<User> findByEmail(String email);
+
+    /**
+     * 비밀번호 해시만 바꾸는 메서드 (로그인 시 재해시 저장용)
+     * 엔티티를 읽지 않고 UPDATE 한 문장으로 처리합니다.
+     *
+     * @param uid 사용자 고유 번호
+     * @param encodedPassword 새 비밀번호 해시
+     * @return 수정된 행 수
+     */
+    @Transactional
+    @Modifying
+    @Query("update User u set u.user_pw = :encodedPassword where u.uid = :uid")
+    int updatePassword(@Param("uid") Long uid, @Param("encodedPassword") String encodedPassword);
 }
@@ -1,8 +1,7 @@
 package com.itnetwork.club_community.domain.user;
 
-import jakarta.transaction.Transactional;
+import com.itnetwork.club_community.domain.auth.PasswordHasher;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.util.Optional;
@@ -20,22 +19,24 @@ public class UserService {
 
     // 사용자 데이터를 데이터베이스에 저장하고 조회하는 리포지토리
     private final UserRepository userRepository;
-    // 비밀번호를 암호화하는 인코더
-    private final BCryptPasswordEncoder bCryptPasswordEncoder;
+    // 비밀번호를 암호화하는 해시 컴포넌트 (전용 스레드 풀에서 BCrypt 실행)
+    private final PasswordHasher passwordHasher;
+    // 토큰 재발급용 사용자 스냅샷 캐시 (사용자 정보를 바꾸면 비워야 함)
+    private final UserSnapshotCache userSnapshotCache;
 
     /**
      * 새로운 사용자를 등록하는 메서드
      * 비밀번호는 자동으로 암호화되어 저장됩니다.
+     * 해시하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션은 저장(save) 한 번에만 적용됩니다.
      * 
      * @param request 회원가입 요청 정보 (이메일, 비밀번호, 이름 등)
      * @return 저장된 사용자의 고유 번호(uid)
      */
-    @Transactional
     public Long save(AddUserRequestDto request) {
         // 요청 정보로 사용자 객체를 생성합니다
         User user = User.builder()
                 .user_id(request.getUser_id())  // 사용자 ID
-                .user_pw(bCryptPasswordEncoder.encode(request.getUser_pw()))  // 비밀번호 암호화
+                .user_pw(passwordHasher.encode(request.getUser_pw()))  // 비밀번호 암호화 (해시 풀이 가득 차면 429)
                 .user_nm(request.getUser_nm())  // 사용자 이름
                 .email(request.getEmail())  // 이메일
                 .build();
@@ -54,4 +55,19 @@ public class UserService {
     public Optional<User> findByEmail(String email) {
         return userRepository.findByEmail(email);
     }
+
+    /**
+     * 비밀번호 해시를 새 값으로 바꾸는 메서드
+     * 설정한 BCrypt cost 가 올라갔을 때 로그인 성공 후 다시 해시한 값을 저장하는 데 사용됩니다.
+     * 
+     * 사용자 정보가 바뀌었으므로 사용자 스냅샷 캐시에서도 지웁니다.
+     * 
+     * @param uid 사용자 고유 번호
+     * @param email 사용자 이메일 (스냅샷 캐시 키)
+     * @param encodedPassword 새 비밀번호 해시
+     */
+    public void updatePassword(Long uid, String email, String encodedPassword) {
+        userRepository.updatePassword(uid, encodedPassword);
+        userSnapshotCache.invalidate(email);
+    }
 }
@@ -0,0 +1,23 @@
+package com.itnetwork.club_community.domain.user;
+
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.List;
+
+/**
+ * 캐시에 보관하는 사용자 정보 스냅샷 (비밀번호 제외, 불변)
+ * User 엔티티는 영속성 컨텍스트와 지연 로딩 컬렉션에 묶여 있으므로 캐시에는 이 값만 넣습니다.
+ *
+ * @param uid    사용자 고유 번호
+ * @param userId 사용자 로그인 ID
+ * @param userNm 사용자 이름 (닉네임)
+ * @param email  사용자 이메일
+ * @param roles  권한 이름 목록 (예: ROLE_USER, ROLE_ADMIN / member_tbl 의 ROLE 컬럼)
+ */
+public record UserSnapshot(Long uid, String userId, String userNm, String email, List<String> roles) {
+
+    public static UserSnapshot of(User user) {
+        return new UserSnapshot(user.getUid(), user.getUser_id(), user.getUser_nm(), user.getEmail(),
+                user.getAuthorities().stream().map(GrantedAuthority::getAuthority).toList());
+    }
+}
@@ -0,0 +1,63 @@
+package com.itnetwork.club_community.domain.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이메일 → 사용자 스냅샷 캐시
+ *
+ * 일반 API 요청은 토큰 클레임만으로 인증하므로 사용자 조회가 없고,
+ * 토큰 재발급처럼 실제 사용자 정보가 필요한 곳만 이 캐시를 거쳐 member_tbl 을 조회합니다.
+ * 없는 사용자는 캐시하지 않습니다. (회원가입 직후 바로 조회될 수 있도록)
+ * 사용자 정보를 바꾸는 경로(UserService)는 invalidate 를 호출해야 하고, 그 밖의 변경(DB 직접 수정 등)은 ttl 동안 이전 값이 보일 수 있습니다.
+ */
+@Component
+public class UserSnapshotCache {
+
+    private final UserRepository userRepository;
+    private final Cache<String, UserSnapshot> cache;
+
+    public UserSnapshotCache(UserRepository userRepository,
+                             MeterRegistry meterRegistry,
+                             @Value("${user.snapshot-cache.maximum-size:1000}") long maximumSize,
+                             @Value("${user.snapshot-cache.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "userSnapshots");
+    }
+
+    /**
+     * 이메일로 사용자 스냅샷 조회 (캐시에 없으면 DB 조회 후 저장)
+     *
+     * @param email 사용자 이메일
+     * @return 사용자 스냅샷 (Optional: 사용자가 없을 수도 있음)
+     */
+    public Optional<UserSnapshot> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        UserSnapshot cached = cache.getIfPresent(email);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        Optional<UserSnapshot> loaded = userRepository.findByEmail(email).map(UserSnapshot::of);
+        loaded.ifPresent(snapshot -> cache.put(email, snapshot));
+        return loaded;
+    }
+
+    // 사용자 정보가 바뀐 뒤 호출 (UserService.updatePassword 등)
+    public void invalidate(String email) {
+        cache.invalidate(email);
+    }
+}
@@ -0,0 +1,78 @@
+package com.itnetwork.club_community.domain.admin;
+
+import com.itnetwork.club_community.common.ratelimit.RateLimitProperties;
+import com.itnetwork.club_community.config.SecurityConfig;
+import com.itnetwork.club_community.domain.auth.JwtTokenProvider;
+import com.itnetwork.club_community.domain.auth.TokenRefreshService;
+import com.itnetwork.club_community.domain.auth.VerifiedTokenCache;
+import com.itnetwork.club_community.domain.user.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(AdminExportController.class)
+@Import({SecurityConfig.class, JwtTokenProvider.class, VerifiedTokenCache.class, RateLimitProperties.class,
+        AdminExportControllerTest.Metrics.class})
+class AdminExportControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private ExportService exportService;
+
+    @MockitoBean
+    private TokenRefreshService tokenRefreshService;
+
+    // member_tbl 의 ROLE 이 ADMIN 인 사용자의 토큰이면 내보내기가 시작되어야 함
+    @Test
+    void exportAllowsAdminToken() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/admin/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(1L, "admin@test.com", Role.ADMIN)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+    }
+
+    // 일반 회원 토큰은 403
+    @Test
+    void exportRejectsUserToken() throws Exception {
+        mockMvc.perform(get("/api/admin/export")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(2L, "user@test.com", Role.USER)))
+                .andExpect(status().isForbidden());
+    }
+
+    private String token(Long uid, String email, Role role) {
+        return jwtTokenProvider.GenerateToken(email, uid, List.of(role.authority()));
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
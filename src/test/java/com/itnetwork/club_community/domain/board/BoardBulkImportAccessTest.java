@@ -0,0 +1,89 @@
+package com.itnetwork.club_community.domain.board;
+
+import com.itnetwork.club_community.common.ratelimit.RateLimitProperties;
+import com.itnetwork.club_community.config.SecurityConfig;
+import com.itnetwork.club_community.domain.auth.JwtTokenProvider;
+import com.itnetwork.club_community.domain.auth.TokenRefreshService;
+import com.itnetwork.club_community.domain.auth.VerifiedTokenCache;
+import com.itnetwork.club_community.domain.user.Role;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(BoardRestController.class)
+@Import({SecurityConfig.class, JwtTokenProvider.class, VerifiedTokenCache.class, RateLimitProperties.class,
+        BoardBulkImportAccessTest.Metrics.class})
+class BoardBulkImportAccessTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockitoBean
+    private BoardService boardService;
+
+    @MockitoBean
+    private BoardVersions boardVersions;
+
+    @MockitoBean
+    private BoardBulkImportService boardBulkImportService;
+
+    @MockitoBean
+    private TokenRefreshService tokenRefreshService;
+
+    // 관리자 토큰이면 일괄 등록이 실행되어야 함
+    @Test
+    void bulkImportAllowsAdminToken() throws Exception {
+        given(boardBulkImportService.importFrom(any()))
+                .willReturn(new BoardBulkImportResponse(0, 0, 0, List.of()));
+
+        mockMvc.perform(post("/api/boards/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(1L, "admin@test.com", Role.ADMIN))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(0));
+    }
+
+    // 일반 회원은 게시글 작성은 가능해도 일괄 등록은 403
+    @Test
+    void bulkImportRejectsUserToken() throws Exception {
+        mockMvc.perform(post("/api/boards/bulk")
+                        .header(HttpHeaders.AUTHORIZATION, "Bearer " + token(2L, "user@test.com", Role.USER))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isForbidden());
+    }
+
+    private String token(Long uid, String email, Role role) {
+        return jwtTokenProvider.GenerateToken(email, uid, List.of(role.authority()));
+    }
+
+    @TestConfiguration
+    static class Metrics {
+
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.itnetwork.club_community.domain.comment;
+
+import com.itnetwork.club_community.domain.board.Board;
+import com.itnetwork.club_community.domain.user.User;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class CommentRepositoryTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    // 작성자가 모두 다른 댓글 목록도 SELECT 한 번으로 끝나야 함 (작성자 지연 로딩 N+1 회귀 방지)
+    @Test
+    void findFirstResponsesUsesSingleStatement() {
+        Board board = entityManager.persist(new Board("제목", "내용"));
+        for (int i = 0; i < 5; i++) {
+            User user = entityManager.persist(User.builder()
+                    .user_id("user" + i)
+                    .user_pw("pw")
+                    .user_nm("작성자" + i)
+                    .email("user" + i + "@test.com")
+                    .build());
+            entityManager.persist(Comment.builder()
+                    .content("댓글 " + i)
+                    .user(user)
+                    .post(board)
+                    .build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<CommentResponseDto> comments = commentRepository.findFirstResponses(board.getId(), 100);
+
+        assertThat(comments)
+                .extracting(CommentResponseDto::getContent)
+                .containsExactly("댓글 0", "댓글 1", "댓글 2", "댓글 3", "댓글 4");
+        assertThat(comments)
+                .extracting(CommentResponseDto::getWriterName)
+                .containsExactly("작성자0", "작성자1", "작성자2", "작성자3", "작성자4");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    // 답글이 나중에 달려도 PATH 순서로 한 번에 읽으면 트리 순서(부모 → 답글 → 다음 형제)로 나와야 함
+    @Test
+    void findThreadReturnsTreeOrderInSingleStatement() {
+        Board board = entityManager.persist(new Board("제목", "내용"));
+        User user = entityManager.persist(User.builder()
+                .user_id("writer")
+                .user_pw("pw")
+                .user_nm("작성자")
+                .email("writer@test.com")
+                .build());
+        Comment first = persistComment(board, user, "첫 댓글", null);
+        Comment second = persistComment(board, user, "두 번째 댓글", null);
+        Comment reply = persistComment(board, user, "첫 댓글의 답글", first);
+        persistComment(board, user, "답글의 답글", reply);
+        persistComment(board, user, "두 번째 댓글의 답글", second);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        List<CommentResponseDto> rows = commentRepository.findThread(board.getId(), 100);
+
+        assertThat(rows)
+                .extracting(CommentResponseDto::getContent)
+                .containsExactly("첫 댓글", "첫 댓글의 답글", "답글의 답글", "두 번째 댓글", "두 번째 댓글의 답글");
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        List<CommentResponseDto> roots = CommentTreeBuilder.build(rows);
+        assertThat(roots).extracting(CommentResponseDto::getContent).containsExactly("첫 댓글", "두 번째 댓글");
+        assertThat(roots.get(0).getChildren().get(0).getChildren())
+                .extracting(CommentResponseDto::getContent)
+                .containsExactly("답글의 답글");
+    }
+
+    private Comment persistComment(Board board, User user, String content, Comment parent) {
+        Comment comment = entityManager.persistAndFlush(Comment.builder()
+                .content(content)
+                .user(user)
+                .post(board)
+                .parentId(parent == null ? null : parent.getId())
+                .depth(parent == null ? 0 : parent.getDepth() + 1)
+                .build());
+        comment.setPath((parent == null ? "" : parent.getPath()) + Comment.pathSegment(comment.getId()));
+        return comment;
+    }
+}